@@ -0,0 +1,62 @@
+package com.game.benchmarks;
+
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.game.animations.TimedAnimation;
+import com.game.utils.objects.KeyValuePair;
+import com.game.utils.objects.TimeMarkedRunnable;
+import com.game.utils.objects.Timer;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link TimedAnimation#update(float)} and {@link Timer#update(float)}, which run once per frame for nearly
+ * every entity. The animation loops through eight frames, and the timer fires four time-marked runnables per cycle
+ * and is reset when finished.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AnimationTimerBenchmark {
+
+    private static final float FRAME_DELTA = 1f / 60f;
+
+    private TimedAnimation timedAnimation;
+    private Timer timer;
+    private int runs;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        List<KeyValuePair<Float, TextureRegion>> frames = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            frames.add(KeyValuePair.of(.1f, new TextureRegion()));
+        }
+        timedAnimation = new TimedAnimation(frames);
+        List<TimeMarkedRunnable> timeMarkedRunnables = new ArrayList<>();
+        for (int i = 1; i <= 4; i++) {
+            timeMarkedRunnables.add(new TimeMarkedRunnable(i * .2f, () -> runs++));
+        }
+        timer = new Timer(1f, timeMarkedRunnables);
+    }
+
+    @Benchmark
+    public void timedAnimationUpdate(Blackhole blackhole) {
+        timedAnimation.update(FRAME_DELTA);
+        blackhole.consume(timedAnimation.getCurrentT());
+    }
+
+    @Benchmark
+    public boolean timerUpdate() {
+        if (timer.isFinished()) {
+            timer.reset();
+        }
+        return timer.update(FRAME_DELTA);
+    }
+
+}
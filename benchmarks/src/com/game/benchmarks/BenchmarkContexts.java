@@ -0,0 +1,44 @@
+package com.game.benchmarks;
+
+import com.game.GameContext2d;
+
+import java.lang.reflect.Proxy;
+
+/**
+ * Stub contexts for running engine code in benchmarks without a game.
+ */
+public class BenchmarkContexts {
+
+    private BenchmarkContexts() {}
+
+    /**
+     * Creates a {@link GameContext2d} where every call does nothing and returns a default value. Entities created with
+     * the stub can be added to systems directly.
+     *
+     * @return the stub game context
+     */
+    public static GameContext2d stubGameContext() {
+        return (GameContext2d) Proxy.newProxyInstance(GameContext2d.class.getClassLoader(),
+                new Class<?>[]{GameContext2d.class}, (proxy, method, args) -> {
+                    if (method.getDeclaringClass() == Object.class) {
+                        return switch (method.getName()) {
+                            case "hashCode" -> System.identityHashCode(proxy);
+                            case "equals" -> proxy == args[0];
+                            default -> BenchmarkContexts.class.getSimpleName();
+                        };
+                    }
+                    Class<?> returnType = method.getReturnType();
+                    if (returnType == boolean.class) {
+                        return false;
+                    } else if (returnType == int.class) {
+                        return 0;
+                    } else if (returnType == float.class) {
+                        return 0f;
+                    } else if (returnType == long.class) {
+                        return 0L;
+                    }
+                    return null;
+                });
+    }
+
+}
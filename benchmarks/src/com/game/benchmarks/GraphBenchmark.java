@@ -0,0 +1,71 @@
+package com.game.benchmarks;
+
+import com.badlogic.gdx.math.Circle;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.Vector2;
+import com.game.graph.Graph;
+import com.game.utils.objects.Pair;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.game.ViewVals.PPM;
+
+/**
+ * Measures {@link Graph#getNodeIndexes} and {@link Graph#addObjToNodes} for shapes spanning a few nodes, the common
+ * case for bodies and fixtures in {@link com.game.world.WorldSystem}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GraphBenchmark {
+
+    private final Object obj = new Object();
+
+    private Graph graph;
+    private Rectangle rectangle;
+    private Circle circle;
+    private Pair<Pair<Integer>> rectangleIndexes;
+    private Pair<Pair<Integer>> circleIndexes;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        graph = new Graph(new Vector2(PPM, PPM), 200, 100);
+        rectangle = new Rectangle(50.5f * PPM, 20.5f * PPM, 1.5f * PPM, 2f * PPM);
+        circle = new Circle(80f * PPM, 40f * PPM, PPM);
+        rectangleIndexes = graph.getNodeIndexes(rectangle);
+        circleIndexes = graph.getNodeIndexes(circle);
+    }
+
+    @Benchmark
+    public Pair<Pair<Integer>> getNodeIndexesOfRectangle() {
+        return graph.getNodeIndexes(rectangle);
+    }
+
+    @Benchmark
+    public Pair<Pair<Integer>> getNodeIndexesOfCircle() {
+        return graph.getNodeIndexes(circle);
+    }
+
+    @Benchmark
+    public void addObjToNodesThenClear() {
+        graph.addObjToNodes(obj, rectangle);
+        graph.addObjToNodes(obj, circle);
+        clear(rectangleIndexes);
+        clear(circleIndexes);
+    }
+
+    private void clear(Pair<Pair<Integer>> indexes) {
+        Pair<Integer> min = indexes.getFirst();
+        Pair<Integer> max = indexes.getSecond();
+        for (int i = min.getFirst(); i <= max.getFirst(); i++) {
+            for (int j = min.getSecond(); j <= max.getSecond(); j++) {
+                graph.getNode(i, j).clear();
+            }
+        }
+    }
+
+}
@@ -0,0 +1,57 @@
+package com.game.benchmarks;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.Vector2;
+import com.game.graph.Graph;
+import com.game.pathfinding.Pathfinder;
+import com.game.pathfinding.PathfindingComponent;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Deque;
+import java.util.concurrent.TimeUnit;
+
+import static com.game.ViewVals.PPM;
+
+/**
+ * Measures {@link Pathfinder#call()} from one corner pairOf a square grid to the opposite corner. Every fourth column
+ * is a wall with a single gap, alternating between the top and the bottom, so the path snakes across the grid and most
+ * pairOf the grid is explored.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PathfinderBenchmark {
+
+    @Param({"20", "50", "100", "250", "500"})
+    private int gridSize;
+
+    private Pathfinder pathfinder;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Graph graph = new Graph(new Vector2(PPM, PPM), gridSize, gridSize);
+        Vector2 start = new Vector2(PPM / 2f, PPM / 2f);
+        Vector2 target = new Vector2((gridSize - .5f) * PPM, (gridSize - .5f) * PPM);
+        PathfindingComponent pathfindingComponent = new PathfindingComponent(
+                () -> start, () -> target, rectangle -> {}, rectangle -> false);
+        pathfindingComponent.setDoAllowDiagonal(() -> false);
+        pathfindingComponent.setDoAcceptPredicate(node -> {
+            int x = node.getX();
+            if (x % 4 != 2) {
+                return true;
+            }
+            int gap = (x / 4) % 2 == 0 ? gridSize - 1 : 0;
+            return node.getY() == gap;
+        });
+        pathfinder = new Pathfinder(graph, pathfindingComponent);
+    }
+
+    @Benchmark
+    public Deque<Rectangle> call() {
+        return pathfinder.call();
+    }
+
+}
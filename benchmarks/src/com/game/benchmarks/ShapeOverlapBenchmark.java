@@ -0,0 +1,65 @@
+package com.game.benchmarks;
+
+import com.badlogic.gdx.math.Circle;
+import com.badlogic.gdx.math.Polyline;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.Shape2D;
+import com.game.shapes.ShapeKind;
+import com.game.shapes.custom.Triangle;
+import com.game.utils.ShapeUtils;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link ShapeUtils#overlap(Shape2D, Shape2D)} for each supported pair pairOf shapes, and
+ * {@link ShapeUtils#overlap(ShapeKind, Shape2D, ShapeKind, Shape2D)} with the kinds resolved up front as fixtures do.
+ * Each pair overlaps, so every routine runs its full intersection test.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ShapeOverlapBenchmark {
+
+    @Param({"RECTANGLE_RECTANGLE", "CIRCLE_CIRCLE", "POLYLINE_POLYLINE", "RECTANGLE_CIRCLE", "RECTANGLE_POLYLINE",
+            "CIRCLE_POLYLINE", "TRIANGLE_RECTANGLE", "TRIANGLE_CIRCLE", "TRIANGLE_POLYLINE", "TRIANGLE_TRIANGLE"})
+    private String shapePair;
+
+    private Shape2D s1;
+    private Shape2D s2;
+    private ShapeKind kind1;
+    private ShapeKind kind2;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        String[] shapes = shapePair.split("_");
+        s1 = shapeOf(shapes[0]);
+        s2 = shapeOf(shapes[1]);
+        kind1 = ShapeKind.of(s1);
+        kind2 = ShapeKind.of(s2);
+    }
+
+    @Benchmark
+    public boolean overlap() {
+        return ShapeUtils.overlap(s1, s2);
+    }
+
+    @Benchmark
+    public boolean overlapByKind() {
+        return ShapeUtils.overlap(kind1, s1, kind2, s2);
+    }
+
+    private static Shape2D shapeOf(String shape) {
+        return switch (shape) {
+            case "RECTANGLE" -> new Rectangle(0f, 0f, 10f, 10f);
+            case "CIRCLE" -> new Circle(8f, 8f, 4f);
+            case "POLYLINE" -> new Polyline(new float[]{-5f, 12f, 15f, -2f});
+            case "TRIANGLE" -> new Triangle(2f, 2f, 14f, 4f, 6f, 12f);
+            default -> throw new IllegalArgumentException("Unknown shape: " + shape);
+        };
+    }
+
+}
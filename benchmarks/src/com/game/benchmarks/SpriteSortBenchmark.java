@@ -0,0 +1,64 @@
+package com.game.benchmarks;
+
+import com.game.sprites.SpriteComponent;
+import com.game.sprites.SpriteProcessor;
+import com.game.sprites.SpriteSystem;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the priority ordering pairOf {@link SpriteSystem}: every sprite component is queued by
+ * {@link SpriteSystem#RENDER_PRIORITY_COMPARATOR} and then drained in draw order, the same as one frame pairOf the
+ * system without the draw calls.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SpriteSortBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    private int spriteCount;
+
+    private final List<SpriteComponent> spriteComponents = new ArrayList<>();
+    private final PriorityQueue<SpriteComponent> spriteComponentQueue =
+            new PriorityQueue<>(SpriteSystem.RENDER_PRIORITY_COMPARATOR);
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Random random = new Random(0L);
+        for (int i = 0; i < spriteCount; i++) {
+            int priority = random.nextInt(8);
+            spriteComponents.add(new SpriteComponent(new SpriteProcessor() {
+
+                @Override
+                public int getSpriteRenderPriority() {
+                    return priority;
+                }
+
+            }));
+        }
+    }
+
+    @Benchmark
+    public int sort() {
+        spriteComponentQueue.clear();
+        for (int i = 0; i < spriteComponents.size(); i++) {
+            spriteComponentQueue.add(spriteComponents.get(i));
+        }
+        int drawn = 0;
+        while (!spriteComponentQueue.isEmpty()) {
+            spriteComponentQueue.poll();
+            drawn++;
+        }
+        return drawn;
+    }
+
+}
@@ -0,0 +1,96 @@
+package com.game.benchmarks;
+
+import com.game.Component;
+import com.game.GameContext2d;
+import com.game.System;
+import com.game.entities.Entity;
+import com.game.profiling.SystemProfiler;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures one update cycle pairOf a sorted {@link System} in steady state, with no membership changes queued.
+ * <p>
+ * The setup also checks the allocation-free update contract pairOf {@link System}: after warming up, it counts the
+ * bytes allocated by the current thread across {@link #CHECKED_UPDATES} update cycles and fails the trial with an
+ * {@link IllegalStateException} if any were allocated. The check is skipped if the JVM does not support per-thread
+ * allocation counting, see {@link SystemProfiler#currentThreadAllocatedBytes()}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SystemUpdateBenchmark {
+
+    private static final float FRAME_DELTA = 1f / 60f;
+    private static final int WARMUP_UPDATES = 20_000;
+    private static final int CHECKED_UPDATES = 1_000;
+
+    @Param({"100", "1000", "10000"})
+    private int entityCount;
+
+    private CountingSystem countingSystem;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        GameContext2d gameContext = BenchmarkContexts.stubGameContext();
+        countingSystem = new CountingSystem();
+        for (int i = 0; i < entityCount; i++) {
+            Entity entity = new Entity(gameContext, false);
+            entity.addComponent(new CountComponent(entityCount - i));
+            countingSystem.addEntity(entity);
+        }
+        for (int i = 0; i < WARMUP_UPDATES; i++) {
+            countingSystem.update(FRAME_DELTA);
+        }
+        long allocatedBytes = SystemProfiler.currentThreadAllocatedBytes();
+        if (allocatedBytes < 0L) {
+            return;
+        }
+        for (int i = 0; i < CHECKED_UPDATES; i++) {
+            countingSystem.update(FRAME_DELTA);
+        }
+        allocatedBytes = SystemProfiler.currentThreadAllocatedBytes() - allocatedBytes;
+        if (allocatedBytes > 0L) {
+            throw new IllegalStateException(CHECKED_UPDATES + " steady state updates pairOf " + entityCount +
+                    " entities allocated " + allocatedBytes + " bytes");
+        }
+    }
+
+    @Benchmark
+    public long update() {
+        countingSystem.update(FRAME_DELTA);
+        return countingSystem.count;
+    }
+
+    private static class CountComponent extends Component {
+
+        private final int order;
+
+        private CountComponent(int order) {
+            this.order = order;
+        }
+
+    }
+
+    private static class CountingSystem extends System {
+
+        private long count;
+
+        private CountingSystem() {
+            super(Comparator.comparingInt(entity -> entity.getComponent(CountComponent.class).order),
+                    CountComponent.class);
+        }
+
+        @Override
+        protected void processEntity(Entity entity, float delta) {
+            count += entity.getComponent(CountComponent.class).order;
+        }
+
+    }
+
+}
@@ -0,0 +1,95 @@
+package com.game.benchmarks;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.Vector2;
+import com.game.GameContext2d;
+import com.game.entities.Entity;
+import com.game.world.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.game.ViewVals.PPM;
+import static com.game.world.WorldVals.AIR_RESISTANCE;
+import static com.game.world.WorldVals.FIXED_TIME_STEP;
+
+/**
+ * Measures one frame pairOf {@link WorldSystem}: fixed-step integration, broadphase, collision, and contacts. Dynamic
+ * bodies are laid out in a square grid, each resting on its own static block and carrying a feet fixture that touches
+ * the block, so every frame has one body collision and one contact per dynamic body.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WorldSystemBenchmark {
+
+    private static final float FRAME_DELTA = 1f / 60f;
+
+    @Param({"100", "1000", "5000"})
+    private int bodyCount;
+
+    private final List<BodyComponent> dynamicBodies = new ArrayList<>();
+    private final List<Vector2> spawns = new ArrayList<>();
+
+    private WorldSystem worldSystem;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        GameContext2d gameContext = BenchmarkContexts.stubGameContext();
+        WorldContactListener worldContactListener = new WorldContactListener() {
+
+            @Override
+            public void beginContact(Contact contact, float delta) {}
+
+            @Override
+            public void continueContact(Contact contact, float delta) {}
+
+            @Override
+            public void endContact(Contact contact, float delta) {}
+
+        };
+        worldSystem = new WorldSystem(worldContactListener, AIR_RESISTANCE, FIXED_TIME_STEP);
+        int columns = (int) Math.ceil(Math.sqrt(bodyCount));
+        int rows = (int) Math.ceil(bodyCount / (float) columns);
+        worldSystem.setWorldBounds(columns * 2, rows * 3);
+        for (int i = 0; i < bodyCount; i++) {
+            float x = (i % columns) * 2f * PPM;
+            float y = (i / columns) * 3f * PPM;
+            Entity block = new Entity(gameContext, false);
+            BodyComponent blockBody = new BodyComponent(BodyType.STATIC, new Rectangle(x, y, PPM, PPM));
+            blockBody.addFixture(new Fixture(block, new Rectangle(x, y, PPM, PPM), FixtureType.BLOCK));
+            block.addComponent(blockBody);
+            worldSystem.addEntity(block);
+            Entity entity = new Entity(gameContext, false);
+            BodyComponent body = new BodyComponent(BodyType.DYNAMIC, new Rectangle(x, y + PPM, .75f * PPM, PPM));
+            body.setGravity(-.5f * PPM);
+            Fixture feet = new Fixture(entity, new Rectangle(0f, 0f, .5f * PPM, .1f * PPM), FixtureType.FEET);
+            feet.getOffset().y = -PPM / 2f;
+            body.addFixture(feet);
+            entity.addComponent(body);
+            worldSystem.addEntity(entity);
+            dynamicBodies.add(body);
+            spawns.add(new Vector2(x, y + PPM));
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void resetBodies() {
+        for (int i = 0; i < dynamicBodies.size(); i++) {
+            BodyComponent body = dynamicBodies.get(i);
+            body.setPosition(spawns.get(i));
+            body.setVelocity(0f, 0f);
+        }
+    }
+
+    @Benchmark
+    public void update() {
+        worldSystem.update(FRAME_DELTA);
+    }
+
+}
@@ -5,6 +5,9 @@ import lombok.Setter;
 
 public class Component {
 
+    @Getter
+    private final int typeIndex = ComponentType.indexOf(getClass());
+
     @Getter
     @Setter
     private boolean on = true;
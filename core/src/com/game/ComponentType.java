@@ -0,0 +1,55 @@
+package com.game;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Assigns each {@link Component} subclass a dense integer type index the first time the subclass is seen. The
+ * indexes are used to build component bitsets so that {@link System} membership can be checked with bit operations
+ * instead of class lookups.
+ */
+public class ComponentType {
+
+    private static final Map<Class<? extends Component>, Integer> typeIndexes = new HashMap<>();
+
+    private ComponentType() {}
+
+    /**
+     * Returns the type index of the component class, assigning the next free index if the class has not been seen.
+     *
+     * @param componentClass the component class
+     * @return the type index
+     */
+    public static synchronized int indexOf(Class<? extends Component> componentClass) {
+        Integer typeIndex = typeIndexes.get(componentClass);
+        if (typeIndex == null) {
+            typeIndex = typeIndexes.size();
+            typeIndexes.put(componentClass, typeIndex);
+        }
+        return typeIndex;
+    }
+
+    /**
+     * Returns a new bitset with the type index of each component class set.
+     *
+     * @param componentClasses the component classes
+     * @return the bitset
+     */
+    public static BitSet bitsOf(Collection<Class<? extends Component>> componentClasses) {
+        BitSet bits = new BitSet();
+        componentClasses.forEach(componentClass -> bits.set(indexOf(componentClass)));
+        return bits;
+    }
+
+    /**
+     * Returns the number of component types that have been assigned an index.
+     *
+     * @return the number of component types
+     */
+    public static synchronized int count() {
+        return typeIndexes.size();
+    }
+
+}
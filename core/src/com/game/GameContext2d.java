@@ -9,9 +9,12 @@ import com.badlogic.gdx.utils.viewport.Viewport;
 import com.game.controllers.ControllerActuator;
 import com.game.controllers.ControllerButton;
 import com.game.entities.Entity;
+import com.game.entities.EntityPools;
+import com.game.entities.contracts.Poolable;
 import com.game.levels.LevelStatus;
 import com.game.messages.Message;
 import com.game.messages.MessageListener;
+import com.game.messages.MessageType;
 import com.game.sprites.RenderingGround;
 
 import java.util.Collection;
@@ -90,6 +93,39 @@ public interface GameContext2d {
      */
     void removeEntity(Entity entity);
 
+    /**
+     * Called when a component is added to or removed from the entity. If the entity has been added, then its
+     * membership is re-evaluated for each {@link System}.
+     *
+     * @param entity the entity
+     */
+    void onEntityComponentsChanged(Entity entity);
+
+    /**
+     * Called when {@link Entity#isDead()} becomes true. If the entity has been added, then it is purged from all
+     * {@link System} instances at the start of the following update cycle.
+     *
+     * @param entity the entity
+     */
+    void onEntityDead(Entity entity);
+
+    /**
+     * Obtains an entity from the pool registered for the entity class. The entity should be initialized with its spawn
+     * parameters and then added with {@link #addEntity(Entity)}. Once the entity is dead and has been purged from all
+     * {@link System} instances, it is returned to its pool.
+     *
+     * @param eClass the entity class
+     * @param <E>    the type parameter pairOf the entity
+     * @return the entity
+     */
+    <E extends Entity & Poolable> E obtainEntity(Class<E> eClass);
+
+    /**
+     * Get the entity pools.
+     *
+     * @return the entity pools
+     */
+    EntityPools getEntityPools();
 
     /**
      * Put blackboard object.
@@ -207,21 +243,34 @@ public interface GameContext2d {
     <T> T getAsset(String key, Class<T> tClass);
 
     /**
-     * Add message listener.
+     * Subscribes the message listener to all message types.
+     *
+     * @param messageListener the message listener
+     */
+    default void addMessageListener(MessageListener messageListener) {
+        addMessageListener(messageListener, MessageType.values());
+    }
+
+    /**
+     * Subscribes the message listener to the message types. The listener is only sent messages pairOf the types it
+     * is subscribed to. Subscribing again adds to the types the listener is subscribed to.
      *
      * @param messageListener the message listener
+     * @param messageTypes    the message types
      */
-    void addMessageListener(MessageListener messageListener);
+    void addMessageListener(MessageListener messageListener, MessageType... messageTypes);
 
     /**
-     * Remove message listener.
+     * Unsubscribes the message listener from all message types.
      *
      * @param messageListener the message listener
      */
     void removeMessageListener(MessageListener messageListener);
 
     /**
-     * Add message
+     * Sends the message to the listeners subscribed to its type. Messages sent while systems are being updated are
+     * queued and sent once all systems have been updated, see {@link #updateSystems(float)}. Other messages are sent
+     * immediately.
      *
      * @param message the message
      */
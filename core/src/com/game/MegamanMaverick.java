@@ -27,6 +27,16 @@ import com.game.controllers.*;
 import com.game.cull.CullOnMessageSystem;
 import com.game.cull.CullOnOutOfCamBoundsSystem;
 import com.game.entities.Entity;
+import com.game.entities.EntityPools;
+import com.game.entities.contracts.Poolable;
+import com.game.entities.decorations.Disintegration;
+import com.game.entities.decorations.Explosion;
+import com.game.entities.decorations.ExplosionOrb;
+import com.game.entities.decorations.WaterSplash;
+import com.game.entities.projectiles.Bullet;
+import com.game.entities.projectiles.ChargedShot;
+import com.game.entities.projectiles.ChargedShotDisintegration;
+import com.game.entities.projectiles.Fireball;
 import com.game.entities.bosses.BossEnum;
 import com.game.entities.megaman.MegamanStats;
 import com.game.graph.GraphSystem;
@@ -40,11 +50,16 @@ import com.game.menus.impl.extras.ExtrasScreen;
 import com.game.menus.impl.main.MainMenuScreen;
 import com.game.menus.impl.pause.PauseMenuScreen;
 import com.game.messages.Message;
+import com.game.messages.MessageBus;
 import com.game.messages.MessageListener;
+import com.game.messages.MessageType;
 import com.game.movement.PendulumSystem;
 import com.game.movement.RotatingLineSystem;
 import com.game.movement.TrajectorySystem;
 import com.game.pathfinding.PathfindingSystem;
+import com.game.profiling.MetricsRegistry;
+import com.game.profiling.ProfilerOverlay;
+import com.game.profiling.SystemProfiler;
 import com.game.shapes.LineSystem;
 import com.game.shapes.ShapeSystem;
 import com.game.sounds.SoundSystem;
@@ -75,7 +90,7 @@ import static com.game.entities.megaman.MegamanVals.MEGAMAN_STATS;
 import static com.game.entities.megaman.MegamanWeapon.MEGA_BUSTER;
 import static com.game.levels.LevelStatus.PAUSED;
 import static com.game.levels.LevelStatus.UNPAUSED;
-import static com.game.messages.MessageType.SOUND_VOLUME_CHANGE;
+import static com.game.messages.MessageType.*;
 import static com.game.sprites.RenderingGround.PLAYGROUND;
 import static com.game.sprites.RenderingGround.UI;
 import static com.game.utils.DebugLogger.DebugLevel.DEBUG;
@@ -87,17 +102,31 @@ import static java.util.Collections.unmodifiableCollection;
 @Getter
 public class MegamanMaverick extends Game implements GameContext2d, MessageListener {
 
+    private static final int PROFILER_OVERLAY_KEY = Input.Keys.F3;
+    private static final int PROFILER_CSV_KEY = Input.Keys.F4;
+    private static final String PROFILER_CSV_PATH = "profiler.csv";
+    private static final String METRICS_CSV_PATH = "metrics.csv";
+    private static final int INPUT_RECORDING_KEY = Input.Keys.F5;
+    private static final String INPUT_RECORDING_PATH = "input.rec";
+
     private final Map<Class<? extends System>, System> systems = new LinkedHashMap<>();
-    private final Set<Entity> entities = new HashSet<>();
+    private final SystemProfiler systemProfiler = new SystemProfiler();
+    private final MetricsRegistry metricsRegistry = new MetricsRegistry();
+    private final Set<Entity> entities = new LinkedHashSet<>();
+    private final Queue<Entity> deadEntities = new ArrayDeque<>();
+    private final List<Entity> entitiesToFree = new ArrayList<>();
+    private final List<Entity> justSpawnedEntities = new ArrayList<>();
+    private final EntityPools entityPools = new EntityPools();
 
     private final ControllerActuator controllerActuator = new ControllerActuator();
+    private final InputRecorder inputRecorder = new InputRecorder();
     private final Map<ControllerButton, ControllerButtonStatus> controllerButtons =
             new EnumMap<>(ControllerButton.class);
 
     private final Map<RenderingGround, Viewport> viewports = new EnumMap<>(RenderingGround.class);
     private final Map<GameScreen, Screen> screens = new EnumMap<>(GameScreen.class);
 
-    private final Set<MessageListener> messageListeners = new HashSet<>();
+    private final MessageBus messageBus = new MessageBus();
     private final Map<String, Object> blackBoard = new HashMap<>();
 
     private final List<Disposable> disposables = new ArrayList<>();
@@ -121,10 +150,16 @@ public class MegamanMaverick extends Game implements GameContext2d, MessageListe
 
     @Setter
     private boolean doUpdateController;
+    @Setter
+    private float fixedDelta;
     private boolean controllerConnected;
+    private boolean updatingSystems;
     private String controllerName = KEYBOARD;
 
+    private InputReplayer inputReplayer;
+
     private MegaTextHandle fpsText;
+    private ProfilerOverlay profilerOverlay;
 
     @Override
     public void create() {
@@ -163,7 +198,9 @@ public class MegamanMaverick extends Game implements GameContext2d, MessageListe
         addSystem(new CullOnOutOfCamBoundsSystem(getViewport(PLAYGROUND).getCamera()));
         addSystem(new HealthSystem());
         addSystem(new TrajectorySystem());
-        addSystem(new WorldSystem(new WorldContactListenerImpl(this), AIR_RESISTANCE, FIXED_TIME_STEP));
+        WorldSystem worldSystem = new WorldSystem(new WorldContactListenerImpl(this), AIR_RESISTANCE, FIXED_TIME_STEP);
+        worldSystem.setMetrics(metricsRegistry);
+        addSystem(worldSystem);
         addSystem(new GraphSystem());
         addSystem(new PathfindingSystem(runOnShutdown));
         addSystem(new RotatingLineSystem());
@@ -172,12 +209,22 @@ public class MegamanMaverick extends Game implements GameContext2d, MessageListe
         addSystem(new BehaviorSystem());
         addSystem(new SoundSystem(this));
         addSystem(new AnimationSystem());
-        addSystem(new SpriteSystem((OrthographicCamera) viewports.get(PLAYGROUND).getCamera(), getSpriteBatch()));
+        addSystem(new SpriteSystem((OrthographicCamera) viewports.get(PLAYGROUND).getCamera(), getSpriteBatch(),
+                worldSystem::getInterpolationAlpha));
         // TODO: turn off debug
 
         addSystem(new LineSystem(viewports.get(PLAYGROUND).getCamera(), getShapeRenderer()));
         addSystem(new ShapeSystem(viewports.get(PLAYGROUND).getCamera(), getShapeRenderer()));
 
+        // entity pools
+        entityPools.register(Bullet.class, () -> new Bullet(this));
+        entityPools.register(ChargedShot.class, () -> new ChargedShot(this));
+        entityPools.register(Fireball.class, () -> new Fireball(this));
+        entityPools.register(ChargedShotDisintegration.class, () -> new ChargedShotDisintegration(this));
+        entityPools.register(Disintegration.class, () -> new Disintegration(this));
+        entityPools.register(Explosion.class, () -> new Explosion(this));
+        entityPools.register(ExplosionOrb.class, () -> new ExplosionOrb(this));
+        entityPools.register(WaterSplash.class, () -> new WaterSplash(this));
         // blackboard
         MegamanStats megamanStats = new MegamanStats();
         megamanStats.setWeaponsChargeable(true);
@@ -187,7 +234,7 @@ public class MegamanMaverick extends Game implements GameContext2d, MessageListe
         megamanStats.putWeapon(MEGA_BUSTER);
         putBlackboardObject(MEGAMAN_STATS, megamanStats);
         // add this as a message listener
-        addMessageListener(this);
+        addMessageListener(this, LEVEL_PAUSED, LEVEL_UNPAUSED);
         // menu screens
         screens.put(MAIN_MENU, new MainMenuScreen(this));
         screens.put(CONTROLLER_SETTINGS, new ControllerSettingsScreen(this));
@@ -212,6 +259,10 @@ public class MegamanMaverick extends Game implements GameContext2d, MessageListe
         // fps text
         fpsText = new MegaTextHandle(new Vector2((VIEW_WIDTH - 4.5f) * PPM, (VIEW_HEIGHT - 1) * PPM),
                 () -> "FPS: " + graphics.getFramesPerSecond());
+        // profiler overlay
+        profilerOverlay = new ProfilerOverlay(systemProfiler, metricsRegistry);
+        runOnShutdown.add(systemProfiler::stopCsv);
+        runOnShutdown.add(metricsRegistry::stopCsv);
     }
 
     @Override
@@ -231,12 +282,55 @@ public class MegamanMaverick extends Game implements GameContext2d, MessageListe
 
     @Override
     public void addEntity(Entity entity) {
-        entities.add(entity);
+        if (!entities.add(entity)) {
+            return;
+        }
+        justSpawnedEntities.add(entity);
+        if (entity.isDead()) {
+            deadEntities.add(entity);
+            return;
+        }
+        for (System system : systems.values()) {
+            if (system.qualifiesMembership(entity)) {
+                system.addEntity(entity);
+            }
+        }
     }
 
     @Override
     public void removeEntity(Entity entity) {
-        entities.remove(entity);
+        if (!entities.remove(entity)) {
+            return;
+        }
+        for (System system : systems.values()) {
+            system.removeEntity(entity);
+        }
+    }
+
+    @Override
+    public void onEntityComponentsChanged(Entity entity) {
+        if (entity.isDead() || !entities.contains(entity)) {
+            return;
+        }
+        for (System system : systems.values()) {
+            if (system.qualifiesMembership(entity)) {
+                system.addEntity(entity);
+            } else {
+                system.removeEntity(entity);
+            }
+        }
+    }
+
+    @Override
+    public void onEntityDead(Entity entity) {
+        if (entities.contains(entity)) {
+            deadEntities.add(entity);
+        }
+    }
+
+    @Override
+    public <E extends Entity & Poolable> E obtainEntity(Class<E> eClass) {
+        return entityPools.obtain(eClass);
     }
 
     @Override
@@ -247,12 +341,23 @@ public class MegamanMaverick extends Game implements GameContext2d, MessageListe
     @Override
     public void purgeAllEntities() {
         systems.values().forEach(System::purgeAllEntities);
+        for (Entity entity : entities) {
+            if (entity instanceof Poolable) {
+                entity.onDeath();
+                entityPools.free(entity);
+            }
+        }
+        entitiesToFree.forEach(entityPools::free);
+        entitiesToFree.clear();
         entities.clear();
+        deadEntities.clear();
+        justSpawnedEntities.clear();
     }
 
     @Override
     public void addSystem(System system) {
         systems.put(system.getClass(), system);
+        systemProfiler.attach(system);
     }
 
     @Override
@@ -267,29 +372,40 @@ public class MegamanMaverick extends Game implements GameContext2d, MessageListe
 
     @Override
     public void updateSystems(float delta) {
-        Set<Entity> entitiesToRemove = new HashSet<>();
-        entities.forEach(entity -> {
-            if (entity.isDead()) {
-                systems.values().forEach(system -> {
-                    if (system.entityIsMember(entity)) {
-                        system.removeEntity(entity);
-                    }
-                });
-                entity.onDeath();
-                entitiesToRemove.add(entity);
-            } else {
-                systems.values().forEach(system -> {
-                    if (!system.entityIsMember(entity) && system.qualifiesMembership(entity)) {
-                        system.addEntity(entity);
-                    } else if (system.entityIsMember(entity) && !system.qualifiesMembership(entity)) {
-                        system.removeEntity(entity);
-                    }
-                });
+        while (!deadEntities.isEmpty()) {
+            Entity entity = deadEntities.poll();
+            if (!entities.contains(entity)) {
+                continue;
+            }
+            entity.onDeath();
+            removeEntity(entity);
+            if (entity instanceof Poolable) {
+                entitiesToFree.add(entity);
             }
-        });
-        entitiesToRemove.forEach(this::removeEntity);
-        systems.values().forEach(system -> system.update(delta));
-        entities.forEach(entity -> entity.setJustSpawned(false));
+        }
+        WorldSystem worldSystem = getSystem(WorldSystem.class);
+        int worldUpdateCount = worldSystem != null ? worldSystem.getUpdateCount() : 0;
+        updatingSystems = true;
+        try {
+            for (System system : systems.values()) {
+                system.update(delta);
+            }
+        } finally {
+            updatingSystems = false;
+        }
+        // pooled entities are freed only once the world has ended their contacts, so that an entity obtained again
+        // cannot have its fixtures' new contacts taken for contacts left over from before it died
+        if (!entitiesToFree.isEmpty() && (worldSystem == null || worldSystem.getUpdateCount() != worldUpdateCount)) {
+            entitiesToFree.forEach(entityPools::free);
+            entitiesToFree.clear();
+        }
+        systemProfiler.endFrame();
+        metricsRegistry.endFrame();
+        messageBus.flush();
+        for (Entity entity : justSpawnedEntities) {
+            entity.setJustSpawned(false);
+        }
+        justSpawnedEntities.clear();
     }
 
     @Override
@@ -308,18 +424,22 @@ public class MegamanMaverick extends Game implements GameContext2d, MessageListe
     }
 
     @Override
-    public void addMessageListener(MessageListener messageListener) {
-        messageListeners.add(messageListener);
+    public void addMessageListener(MessageListener messageListener, MessageType... messageTypes) {
+        messageBus.subscribe(messageListener, messageTypes);
     }
 
     @Override
     public void removeMessageListener(MessageListener messageListener) {
-        messageListeners.remove(messageListener);
+        messageBus.unsubscribe(messageListener);
     }
 
     @Override
     public void sendMessage(Message message) {
-        messageListeners.forEach(messageListener -> messageListener.listenToMessage(message));
+        if (updatingSystems) {
+            messageBus.post(message);
+        } else {
+            messageBus.send(message);
+        }
     }
 
     @Override
@@ -426,7 +546,7 @@ public class MegamanMaverick extends Game implements GameContext2d, MessageListe
     @Override
     public void setSoundEffectsVolume(int soundEffectsVolume) {
         this.soundEffectsVolume = soundEffectsVolume;
-        sendMessage(new Message(SOUND_VOLUME_CHANGE));
+        sendMessage(Message.of(SOUND_VOLUME_CHANGE));
     }
 
     @Override
@@ -437,11 +557,59 @@ public class MegamanMaverick extends Game implements GameContext2d, MessageListe
         this.musicVolume = musicVolume;
     }
 
+    /**
+     * Starts recording input to the file in local storage, see {@link InputRecorder}. The current screen is set
+     * again so that the recording starts from a fresh screen and can be replayed with {@link #startReplay(String)}.
+     *
+     * @param localPath the path pairOf the file relative to local storage
+     */
+    public void startRecording(String localPath) {
+        inputRecorder.start(localPath, currentScreenKey);
+        setScreen(currentScreenKey);
+    }
+
+    /**
+     * Stops recording input.
+     */
+    public void stopRecording() {
+        inputRecorder.stop();
+    }
+
+    /**
+     * Starts playing back the input recording in local storage, see {@link InputReplayer}. The screen the recording
+     * starts on is set, and each following frame uses the recorded delta time and controller button statuses instead
+     * pairOf live input until the recording runs out.
+     *
+     * @param localPath the path pairOf the file relative to local storage
+     */
+    public void startReplay(String localPath) {
+        stopRecording();
+        inputReplayer = new InputReplayer(localPath);
+        setScreen(inputReplayer.getGameScreen());
+    }
+
+    /**
+     * Returns if an input recording is being played back.
+     *
+     * @return if replaying
+     */
+    public boolean isReplaying() {
+        return inputReplayer != null;
+    }
+
     @Override
     public void render() {
-        float delta = graphics.getDeltaTime();
+        if (inputReplayer != null && !inputReplayer.hasNext()) {
+            inputReplayer = null;
+        }
+        float delta;
+        if (inputReplayer != null) {
+            delta = inputReplayer.next(controllerButtons);
+        } else {
+            delta = fixedDelta > 0f ? fixedDelta : graphics.getDeltaTime();
+        }
         gl20.glClearColor(0.0f, 0.0f, 0.0f, 1.0f);
-        graphics.getGL20().glClear(GL20.GL_COLOR_BUFFER_BIT);
+        gl20.glClear(GL20.GL_COLOR_BUFFER_BIT);
         if (input.isKeyJustPressed(Input.Keys.ESCAPE)) {
             if (currentScreenKey == MAIN_MENU) {
                 app.exit();
@@ -449,11 +617,36 @@ public class MegamanMaverick extends Game implements GameContext2d, MessageListe
                 setScreen(MAIN_MENU);
             }
         }
-        if (doUpdateController()) {
+        if (input.isKeyJustPressed(PROFILER_OVERLAY_KEY)) {
+            boolean visible = !profilerOverlay.isVisible();
+            profilerOverlay.setVisible(visible);
+            systemProfiler.setEnabled(visible || systemProfiler.isCsvRunning());
+        }
+        if (input.isKeyJustPressed(PROFILER_CSV_KEY)) {
+            if (systemProfiler.isCsvRunning()) {
+                systemProfiler.stopCsv();
+                systemProfiler.setEnabled(profilerOverlay.isVisible());
+                metricsRegistry.stopCsv();
+            } else {
+                systemProfiler.startCsv(PROFILER_CSV_PATH);
+                metricsRegistry.startCsv(METRICS_CSV_PATH);
+            }
+        }
+        if (input.isKeyJustPressed(INPUT_RECORDING_KEY) && inputReplayer == null) {
+            if (inputRecorder.isRecording()) {
+                stopRecording();
+            } else {
+                startRecording(INPUT_RECORDING_PATH);
+            }
+        }
+        if (inputReplayer == null && doUpdateController()) {
             updateController();
         }
+        inputRecorder.record(delta, controllerButtons);
         updateControllerStatus();
-        super.render();
+        if (screen != null) {
+            screen.render(delta);
+        }
         if (overlayScreen != null) {
             overlayScreen.render(delta);
         }
@@ -465,6 +658,7 @@ public class MegamanMaverick extends Game implements GameContext2d, MessageListe
     public void dispose() {
         super.dispose();
         screen.dispose();
+        inputRecorder.stop();
         runOnShutdown.forEach(Runnable::run);
         disposables.forEach(Disposable::dispose);
     }
@@ -488,6 +682,7 @@ public class MegamanMaverick extends Game implements GameContext2d, MessageListe
         setSpriteBatchProjectionMatrix(UI);
         spriteBatch.begin();
         fpsText.draw(spriteBatch);
+        profilerOverlay.draw(spriteBatch);
         spriteBatch.end();
     }
 
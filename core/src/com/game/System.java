@@ -1,37 +1,68 @@
 package com.game;
 
+import com.badlogic.gdx.utils.TimeUtils;
 import com.game.entities.Entity;
+import com.game.profiling.SystemProfile;
+import com.game.profiling.SystemProfiler;
 import com.game.utils.interfaces.Updatable;
+import lombok.AccessLevel;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 import lombok.Setter;
 
 import java.util.*;
-import java.util.stream.Stream;
 
 import static com.game.utils.UtilMethods.objName;
 import static java.util.Collections.*;
 
 /**
  * The base class pairOf game systems. Instances pairOf this class perform game logic on a setBounds pairOf
- * {@link Entity} instances. Entities are eligible for System membership if {@link Entity#hasAllComponents(Collection)}
- * contains all the elements pairOf {@link #componentMask}. Because the behavior pairOf systems is independent pairOf
+ * {@link Entity} instances. Entities are eligible for System membership if {@link Entity#hasAllComponents(BitSet)}
+ * contains all the bits pairOf {@link #componentBits}. Because the behavior pairOf systems is independent pairOf
  * game state, systems should only be initialized once.
+ * <p>
+ * Members are iterated through a cached query view that is rebuilt only when the membership changes. If a comparator
+ * is set, then the view is re-sorted only when the membership changes or {@link #invalidateSort()} is called. Deferred
+ * additions and removals are queued in insertion-ordered sets, so queueing and cancelling are constant time, and an
+ * update cycle with nothing queued allocates nothing.
+ * <p>
+ * If a {@link SystemProfile} is set, then each update cycle records its timings into the profile, see
+ * {@link SystemProfiler}.
  */
 @Setter
-@RequiredArgsConstructor
 public abstract class System implements Updatable {
 
-    private final Set<Entity> entities = new HashSet<>();
+    private static final int INITIAL_BUFFER_CAPACITY = 64;
+
+    private final Set<Entity> entities = new LinkedHashSet<>();
+    private final List<Entity> entitiesView = new ArrayList<>();
     private final Set<Class<? extends Component>> componentMask;
-    private final Queue<Entity> entitiesToAddQueue = new LinkedList<>();
-    private final Queue<Entity> entitiesToRemoveQueue = new LinkedList<>();
+    private final BitSet componentBits;
+    private final int[] componentTypeIndexes;
+    private final Set<Entity> entitiesToAddQueue = new LinkedHashSet<>(INITIAL_BUFFER_CAPACITY);
+    private final Set<Entity> entitiesToRemoveQueue = new LinkedHashSet<>(INITIAL_BUFFER_CAPACITY);
 
     @Getter
     private boolean updating;
     @Getter
+    private SystemProfile profile;
+    @Getter
     private boolean on = true;
     private Comparator<Entity> comparator;
+    @Setter(AccessLevel.NONE)
+    private boolean entitiesViewDirty;
+    @Setter(AccessLevel.NONE)
+    private boolean sortDirty;
+
+    /**
+     * Constructor for the component mask.
+     *
+     * @param componentMask the component mask
+     */
+    public System(Set<Class<? extends Component>> componentMask) {
+        this.componentMask = componentMask;
+        this.componentBits = ComponentType.bitsOf(componentMask);
+        this.componentTypeIndexes = componentBits.stream().toArray();
+    }
 
     /**
      * Constructor for var args components.
@@ -89,23 +120,64 @@ public abstract class System implements Updatable {
         if (!isOn()) {
             return;
         }
+        SystemProfile profile = this.profile;
+        long allocatedBytes = profile != null ? SystemProfiler.currentThreadAllocatedBytes() : 0L;
+        long startTime = profile != null ? TimeUtils.nanoTime() : 0L;
         updating = true;
         preProcess(delta);
-        Stream<Entity> stream = entities.stream().filter(e ->
-                componentMask.stream().allMatch(c -> e.getComponent(c).isOn()));
-        if (comparator != null) {
-            stream = stream.sorted(comparator);
+        long preProcessTime = profile != null ? TimeUtils.nanoTime() : 0L;
+        if (entitiesViewDirty) {
+            entitiesView.clear();
+            entitiesView.addAll(entities);
+            entitiesViewDirty = false;
+            sortDirty = true;
+        }
+        if (comparator != null && sortDirty) {
+            entitiesView.sort(comparator);
+            sortDirty = false;
         }
-        stream.forEach(e -> processEntity(e, delta));
+        for (int i = 0; i < entitiesView.size(); i++) {
+            Entity entity = entitiesView.get(i);
+            if (entity.areComponentsOn(componentTypeIndexes)) {
+                processEntity(entity, delta);
+            }
+        }
+        long processTime = profile != null ? TimeUtils.nanoTime() : 0L;
         postProcess(delta);
-        while (!entitiesToAddQueue.isEmpty()) {
-            entities.add(entitiesToAddQueue.poll());
+        long postProcessTime = profile != null ? TimeUtils.nanoTime() : 0L;
+        if (!entitiesToAddQueue.isEmpty()) {
+            entitiesViewDirty |= entities.addAll(entitiesToAddQueue);
+            entitiesToAddQueue.clear();
         }
-        while (!entitiesToRemoveQueue.isEmpty()) {
-            entities.remove(entitiesToRemoveQueue.poll());
+        if (!entitiesToRemoveQueue.isEmpty()) {
+            entitiesViewDirty |= entities.removeAll(entitiesToRemoveQueue);
+            entitiesToRemoveQueue.clear();
         }
-        entities.removeIf(entity -> !qualifiesMembership(entity) || entity.isDead());
         updating = false;
+        if (profile != null) {
+            profile.record(preProcessTime - startTime, processTime - preProcessTime, postProcessTime - processTime,
+                    entitiesView.size(), allocatedBytes < 0L ? -1L :
+                            SystemProfiler.currentThreadAllocatedBytes() - allocatedBytes);
+        }
+    }
+
+    /**
+     * Sets the comparator used to order the entities passed to {@link #processEntity(Entity, float)}. Null if the
+     * entities should not be ordered.
+     *
+     * @param comparator the comparator
+     */
+    public void setComparator(Comparator<Entity> comparator) {
+        this.comparator = comparator;
+        sortDirty = true;
+    }
+
+    /**
+     * Marks the ordering pairOf the entities as stale so that they are re-sorted on the next update cycle. Should be
+     * called whenever a value that the comparator depends on changes.
+     */
+    public void invalidateSort() {
+        sortDirty = true;
     }
 
     /**
@@ -127,20 +199,21 @@ public abstract class System implements Updatable {
     }
 
     /**
-     * Returns if the {@link Entity} can be accepted as a member pairOf this System by comparing {@link #componentMask}
-     * to {@link Entity#hasAllComponents(Collection)}. If the com.game.entities.Entity's setBounds pairOf component keys
-     * contains all the component classes contained in this System's component mask, then the com.game.entities.Entity is
-     * accepted, otherwise the com.game.entities.Entity is rejected.
+     * Returns if the {@link Entity} can be accepted as a member pairOf this System by comparing {@link #componentBits}
+     * to {@link Entity#getComponentBits()}. If the com.game.entities.Entity's component bits contain all the bits
+     * contained in this System's component bits, then the com.game.entities.Entity is accepted, otherwise the
+     * com.game.entities.Entity is rejected.
      *
      * @param entity the entity
      * @return true if the com.game.entities.Entity can be added, else false
      */
     public boolean qualifiesMembership(Entity entity) {
-        return entity.hasAllComponents(componentMask);
+        return entity.hasAllComponents(componentBits);
     }
 
     /**
-     * Attempts to add the {@link Entity} as a member, returns true if the attempt is successful, else false.
+     * Queues the {@link Entity} to be added as a member at the end pairOf the next update cycle. Cancels any pending
+     * removal pairOf the entity.
      *
      * @param entity the entity
      */
@@ -148,18 +221,24 @@ public abstract class System implements Updatable {
         if (!qualifiesMembership(entity)) {
             throw new IllegalStateException("Cannot add " + objName(entity) + " as member pairOf " + this);
         }
+        entitiesToRemoveQueue.remove(entity);
         entitiesToAddQueue.add(entity);
     }
 
     /**
      * Attempts to remove the {@link Entity} from membership to this System. If this System is currently in an
-     * update cycle, then the com.game.entities.Entity is queued to be removed on the next update cycle, else it is removed
-     * immediately.
+     * update cycle, then the com.game.entities.Entity is queued to be removed at the end pairOf the update cycle, else
+     * it is removed immediately. Cancels any pending addition pairOf the entity.
      *
      * @param entity the entity
      */
     public void removeEntity(Entity entity) {
-        entitiesToRemoveQueue.add(entity);
+        entitiesToAddQueue.remove(entity);
+        if (updating) {
+            entitiesToRemoveQueue.add(entity);
+        } else {
+            entitiesViewDirty |= entities.remove(entity);
+        }
     }
 
     /**
@@ -176,6 +255,9 @@ public abstract class System implements Updatable {
     /** Purge all entities. */
     public void purgeAllEntities() {
         entities.clear();
+        entitiesView.clear();
+        entitiesViewDirty = false;
+        sortDirty = false;
         entitiesToAddQueue.clear();
         entitiesToRemoveQueue.clear();
     }
@@ -4,6 +4,8 @@ import com.game.entities.Entity;
 import com.game.System;
 import com.game.utils.interfaces.Updatable;
 
+import java.util.List;
+
 /**
  * {@link System} implementation for updating entity behaviors.
  */
@@ -20,7 +22,10 @@ public class BehaviorSystem extends System {
         if (preProcess != null) {
             preProcess.update(delta);
         }
-        behaviorComponent.getBehaviors().forEach(behavior -> behavior.update(delta));
+        List<Behavior> behaviors = behaviorComponent.getBehaviors();
+        for (int i = 0; i < behaviors.size(); i++) {
+            behaviors.get(i).update(delta);
+        }
         Updatable postProcess = behaviorComponent.getPostProcess();
         if (postProcess != null) {
             postProcess.update(delta);
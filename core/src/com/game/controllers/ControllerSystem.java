@@ -12,10 +12,12 @@ import java.util.function.Predicate;
  */
 public class ControllerSystem extends System {
 
+    private static final ControllerButton[] CONTROLLER_BUTTONS = ControllerButton.values();
+
     private final Predicate<ControllerButton> isPressedPredicate;
+    private final Map<ControllerButton, Boolean> previousFrame = new EnumMap<>(ControllerButton.class);
 
     private Map<ControllerButton, Boolean> thisFrame;
-    private Map<ControllerButton, Boolean> previousFrame;
 
     public ControllerSystem(Predicate<ControllerButton> isPressedPredicate) {
         super(ControllerComponent.class);
@@ -29,8 +31,8 @@ public class ControllerSystem extends System {
 
     @Override
     protected void preProcess(float delta) {
-        previousFrame = new EnumMap<>(thisFrame);
-        for (ControllerButton controllerButton : ControllerButton.values()) {
+        previousFrame.putAll(thisFrame);
+        for (ControllerButton controllerButton : CONTROLLER_BUTTONS) {
             thisFrame.replace(controllerButton, isPressedPredicate.test(controllerButton));
         }
     }
@@ -38,7 +40,7 @@ public class ControllerSystem extends System {
     @Override
     protected void processEntity(Entity entity, float delta) {
         ControllerComponent controllerComponent = entity.getComponent(ControllerComponent.class);
-        for (ControllerButton controllerButton : ControllerButton.values()) {
+        for (ControllerButton controllerButton : CONTROLLER_BUTTONS) {
             ControllerAdapter controllerAdapter = controllerComponent.getControllerAdapters().get(controllerButton);
             if (controllerAdapter == null) {
                 continue;
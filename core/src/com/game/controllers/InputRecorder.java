@@ -0,0 +1,128 @@
+package com.game.controllers;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.game.GameScreen;
+import lombok.Getter;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Records the per-frame delta time and {@link ControllerButtonStatus} pairOf every {@link ControllerButton} into a
+ * compact binary file that can be played back by {@link InputReplayer}.
+ * <p>
+ * The file starts with a header: the magic number, the format version, the number pairOf controller buttons, and the
+ * name pairOf the {@link GameScreen} the recording starts on. Each frame follows as the delta time as a float and the
+ * status ordinals pairOf all buttons packed two bits each into an int, see {@link #pack(Map)}.
+ */
+public class InputRecorder {
+
+    static final int MAGIC = 0x4D4D4952;
+    static final byte VERSION = 1;
+    static final int BITS_PER_STATUS = 2;
+
+    private DataOutputStream out;
+
+    @Getter
+    private int frameCount;
+
+    /**
+     * Packs the status ordinal pairOf each controller button into an int, two bits per button in ordinal order pairOf
+     * {@link ControllerButton}.
+     *
+     * @param controllerButtons the status pairOf each controller button
+     * @return the packed statuses
+     */
+    public static int pack(Map<ControllerButton, ControllerButtonStatus> controllerButtons) {
+        int packed = 0;
+        for (ControllerButton controllerButton : ControllerButton.values()) {
+            int ordinal = controllerButtons.get(controllerButton).ordinal();
+            packed |= ordinal << (controllerButton.ordinal() * BITS_PER_STATUS);
+        }
+        return packed;
+    }
+
+    /**
+     * Unpacks statuses packed by {@link #pack(Map)} into the map.
+     *
+     * @param packed            the packed statuses
+     * @param controllerButtons the map to put the status pairOf each controller button into
+     */
+    public static void unpack(int packed, Map<ControllerButton, ControllerButtonStatus> controllerButtons) {
+        ControllerButtonStatus[] statuses = ControllerButtonStatus.values();
+        int mask = (1 << BITS_PER_STATUS) - 1;
+        for (ControllerButton controllerButton : ControllerButton.values()) {
+            int ordinal = (packed >>> (controllerButton.ordinal() * BITS_PER_STATUS)) & mask;
+            controllerButtons.put(controllerButton, statuses[ordinal]);
+        }
+    }
+
+    /**
+     * Starts recording to the file in local storage, replacing any existing file. Stops any recording in progress
+     * first.
+     *
+     * @param localPath  the path pairOf the file relative to local storage
+     * @param gameScreen the game screen the recording starts on
+     */
+    public void start(String localPath, GameScreen gameScreen) {
+        stop();
+        out = new DataOutputStream(new BufferedOutputStream(Gdx.files.local(localPath).write(false)));
+        frameCount = 0;
+        try {
+            out.writeInt(MAGIC);
+            out.writeByte(VERSION);
+            out.writeByte(ControllerButton.values().length);
+            out.writeUTF(gameScreen.name());
+        } catch (IOException e) {
+            stop();
+            throw new GdxRuntimeException("Failed to write input recording", e);
+        }
+    }
+
+    /**
+     * Records one frame if recording.
+     *
+     * @param delta             the delta time pairOf the frame
+     * @param controllerButtons the status pairOf each controller button in the frame
+     */
+    public void record(float delta, Map<ControllerButton, ControllerButtonStatus> controllerButtons) {
+        if (out == null) {
+            return;
+        }
+        try {
+            out.writeFloat(delta);
+            out.writeInt(pack(controllerButtons));
+        } catch (IOException e) {
+            stop();
+            throw new GdxRuntimeException("Failed to write input recording", e);
+        }
+        frameCount++;
+    }
+
+    /**
+     * Returns if recording.
+     *
+     * @return if recording
+     */
+    public boolean isRecording() {
+        return out != null;
+    }
+
+    /**
+     * Flushes and closes the file if recording.
+     */
+    public void stop() {
+        if (out == null) {
+            return;
+        }
+        try {
+            out.close();
+        } catch (IOException ignored) {
+        }
+        out = null;
+    }
+
+}
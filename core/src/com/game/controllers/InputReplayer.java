@@ -0,0 +1,98 @@
+package com.game.controllers;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.game.GameScreen;
+import lombok.Getter;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.util.Map;
+
+import static com.game.controllers.InputRecorder.*;
+
+/**
+ * Plays back a file written by {@link InputRecorder}. Each call to {@link #next(Map)} sets the status pairOf every
+ * {@link ControllerButton} to the recorded status and returns the recorded delta time, so that a playthrough fed by
+ * this replayer runs the same frames with the same input regardless pairOf wall time.
+ */
+public class InputReplayer {
+
+    private final float[] deltas;
+    private final int[] statuses;
+
+    @Getter
+    private final GameScreen gameScreen;
+    @Getter
+    private int frame;
+
+    /**
+     * Loads the recording from the file in local storage.
+     *
+     * @param localPath the path pairOf the file relative to local storage
+     * @throws GdxRuntimeException if the file cannot be read or is not a recording pairOf this format
+     */
+    public InputReplayer(String localPath) {
+        byte[] bytes = Gdx.files.local(localPath).readBytes();
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+            if (in.readInt() != MAGIC) {
+                throw new GdxRuntimeException(localPath + " is not an input recording");
+            }
+            byte version = in.readByte();
+            if (version != VERSION) {
+                throw new GdxRuntimeException("Unsupported input recording version " + version);
+            }
+            int buttonCount = in.readByte();
+            if (buttonCount != ControllerButton.values().length) {
+                throw new GdxRuntimeException("Input recording has " + buttonCount + " controller buttons but " +
+                        ControllerButton.values().length + " are defined");
+            }
+            gameScreen = GameScreen.valueOf(in.readUTF());
+            int frameCount = in.available() / (Float.BYTES + Integer.BYTES);
+            deltas = new float[frameCount];
+            statuses = new int[frameCount];
+            for (int i = 0; i < frameCount; i++) {
+                deltas[i] = in.readFloat();
+                statuses[i] = in.readInt();
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            throw new GdxRuntimeException("Failed to read input recording " + localPath, e);
+        }
+    }
+
+    /**
+     * Returns the number pairOf recorded frames.
+     *
+     * @return the number pairOf recorded frames
+     */
+    public int getFrameCount() {
+        return deltas.length;
+    }
+
+    /**
+     * Returns if there are frames left to play back.
+     *
+     * @return if there are frames left
+     */
+    public boolean hasNext() {
+        return frame < deltas.length;
+    }
+
+    /**
+     * Plays back the next frame: puts the recorded status pairOf each controller button into the map and returns the
+     * recorded delta time.
+     *
+     * @param controllerButtons the map to put the status pairOf each controller button into
+     * @return the recorded delta time
+     * @throws IllegalStateException if there are no frames left
+     */
+    public float next(Map<ControllerButton, ControllerButtonStatus> controllerButtons) {
+        if (!hasNext()) {
+            throw new IllegalStateException("No frames left in input recording");
+        }
+        unpack(statuses[frame], controllerButtons);
+        return deltas[frame++];
+    }
+
+}
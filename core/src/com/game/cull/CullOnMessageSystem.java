@@ -36,8 +36,11 @@ public class CullOnMessageSystem extends System implements MessageListener {
     @Override
     protected void processEntity(Entity entity, float delta) {
         CullOnMessageComponent cullOnMessageComponent = entity.getComponent(CullOnMessageComponent.class);
-        if (messages.stream().anyMatch(cullOnMessageComponent::isCullMessage)) {
-            entity.setDead(true);
+        for (int i = 0; i < messages.size(); i++) {
+            if (cullOnMessageComponent.isCullMessage(messages.get(i))) {
+                entity.setDead(true);
+                return;
+            }
         }
     }
 
@@ -1,13 +1,14 @@
 package com.game.cull;
 
 import com.badlogic.gdx.graphics.Camera;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.collision.BoundingBox;
 import com.game.entities.Entity;
 import com.game.System;
 
-import static com.game.utils.UtilMethods.*;
-
 public class CullOnOutOfCamBoundsSystem extends System {
 
+    private final BoundingBox bounds = new BoundingBox();
     private final Camera camera;
 
     public CullOnOutOfCamBoundsSystem(Camera camera) {
@@ -18,7 +19,11 @@ public class CullOnOutOfCamBoundsSystem extends System {
     @Override
     protected void processEntity(Entity entity, float delta) {
         CullOutOfCamBoundsComponent cullComponent = entity.getComponent(CullOutOfCamBoundsComponent.class);
-        if (camera.frustum.boundsInFrustum(rectToBBox(cullComponent.getBounds()))) {
+        Rectangle rectangle = cullComponent.getBounds();
+        bounds.min.set(rectangle.x, rectangle.y, 0f);
+        bounds.max.set(rectangle.x + rectangle.width, rectangle.y + rectangle.height, 0f);
+        bounds.update();
+        if (camera.frustum.boundsInFrustum(bounds)) {
             cullComponent.resetCullTimer();
             return;
         }
@@ -1,15 +1,18 @@
 package com.game.entities;
 
 import com.game.Component;
+import com.game.ComponentType;
 import com.game.GameContext2d;
 import com.game.messages.Message;
 import com.game.messages.MessageListener;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 
-import java.util.Collection;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.*;
+
+import static com.game.messages.MessageType.LEVEL_PAUSED;
+import static com.game.messages.MessageType.LEVEL_UNPAUSED;
 
 @Getter
 @Setter
@@ -17,6 +20,13 @@ public class Entity implements MessageListener {
 
     protected final GameContext2d gameContext;
     protected final Map<Class<? extends Component>, Component> components = new HashMap<>();
+    private final BitSet componentBits = new BitSet();
+
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private Component[] componentsByType = new Component[ComponentType.count()];
+
+    private final boolean listenToMessages;
 
     private boolean dead = false;
     private boolean justSpawned = true;
@@ -27,8 +37,9 @@ public class Entity implements MessageListener {
 
     public Entity(GameContext2d gameContext, boolean listenToMessages) {
         this.gameContext = gameContext;
+        this.listenToMessages = listenToMessages;
         if (listenToMessages) {
-            gameContext.addMessageListener(this);
+            gameContext.addMessageListener(this, LEVEL_PAUSED, LEVEL_UNPAUSED);
         }
     }
 
@@ -40,8 +51,8 @@ public class Entity implements MessageListener {
     @Override
     public void listenToMessage(Message message) {
         switch (message.getMessageType()) {
-            case LEVEL_PAUSED -> components.values().forEach(component -> component.setOn(false));
-            case LEVEL_UNPAUSED -> components.values().forEach(component -> component.setOn(true));
+            case LEVEL_PAUSED -> setComponentsOn(false);
+            case LEVEL_UNPAUSED -> setComponentsOn(true);
         }
     }
     
@@ -49,20 +60,111 @@ public class Entity implements MessageListener {
         gameContext.removeMessageListener(this);
     }
 
+    /**
+     * Brings this entity back after it has been purged so that it can be added again, see {@link EntityPool}. Clears
+     * the dead flag, marks the entity as just spawned, turns all components back on, and registers the entity as a
+     * message listener again if it was constructed as one.
+     */
+    public void revive() {
+        dead = false;
+        justSpawned = true;
+        setComponentsOn(true);
+        if (listenToMessages) {
+            gameContext.addMessageListener(this, LEVEL_PAUSED, LEVEL_UNPAUSED);
+        }
+    }
+
+    /**
+     * Sets if this entity is dead. When this entity becomes dead, {@link GameContext2d#onEntityDead(Entity)} is called
+     * so that the entity can be purged from all systems on the following update cycle.
+     *
+     * @param dead if this entity is dead
+     */
+    public void setDead(boolean dead) {
+        boolean wasDead = this.dead;
+        this.dead = dead;
+        if (dead && !wasDead) {
+            gameContext.onEntityDead(this);
+        }
+    }
+
     public <C> C getComponent(Class<C> componentClass) {
         return componentClass.cast(components.get(componentClass));
     }
 
+    public Component getComponent(int typeIndex) {
+        return typeIndex < componentsByType.length ? componentsByType[typeIndex] : null;
+    }
+
     public boolean hasComponent(Class<? extends Component> clazz) {
-        return components.containsKey(clazz) && clazz.isAssignableFrom(getComponent(clazz).getClass());
+        return componentBits.get(ComponentType.indexOf(clazz));
     }
 
     public boolean hasAllComponents(Collection<Class<? extends Component>> clazzes) {
-        return clazzes.stream().allMatch(this::hasComponent);
+        for (Class<? extends Component> clazz : clazzes) {
+            if (!hasComponent(clazz)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns if every bit set in the param is also set in {@link #getComponentBits()}.
+     *
+     * @param bits the component type bits
+     * @return if this entity has all the components
+     */
+    public boolean hasAllComponents(BitSet bits) {
+        for (int i = bits.nextSetBit(0); i >= 0; i = bits.nextSetBit(i + 1)) {
+            if (!componentBits.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns if each of the components with the type indexes is present and on.
+     *
+     * @param typeIndexes the component type indexes
+     * @return if all the components are on
+     */
+    public boolean areComponentsOn(int[] typeIndexes) {
+        for (int typeIndex : typeIndexes) {
+            Component component = getComponent(typeIndex);
+            if (component == null || !component.isOn()) {
+                return false;
+            }
+        }
+        return true;
     }
 
     public void addComponent(Component component) {
         components.put(component.getClass(), component);
+        int typeIndex = component.getTypeIndex();
+        if (typeIndex >= componentsByType.length) {
+            componentsByType = Arrays.copyOf(componentsByType, Math.max(typeIndex + 1, componentsByType.length * 2));
+        }
+        componentsByType[typeIndex] = component;
+        componentBits.set(typeIndex);
+        gameContext.onEntityComponentsChanged(this);
+    }
+
+    private void setComponentsOn(boolean on) {
+        for (int i = componentBits.nextSetBit(0); i >= 0; i = componentBits.nextSetBit(i + 1)) {
+            componentsByType[i].setOn(on);
+        }
+    }
+
+    public void removeComponent(Class<? extends Component> componentClass) {
+        if (components.remove(componentClass) == null) {
+            return;
+        }
+        int typeIndex = ComponentType.indexOf(componentClass);
+        componentsByType[typeIndex] = null;
+        componentBits.clear(typeIndex);
+        gameContext.onEntityComponentsChanged(this);
     }
 
 }
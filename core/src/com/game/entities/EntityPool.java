@@ -0,0 +1,101 @@
+package com.game.entities;
+
+import com.game.entities.contracts.Poolable;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.util.*;
+import java.util.function.Supplier;
+
+/**
+ * Pool pairOf {@link Poolable} entities pairOf one type. Freed entities are kept and handed out again by
+ * {@link #obtain()}, so that short-lived entities such as projectiles and explosions do not allocate new components,
+ * fixtures, sprites, and animations on every spawn.
+ * <p>
+ * The pool keeps metrics: the number pairOf entities created by the factory, the number currently in use, and the
+ * high-water mark pairOf entities in use at once. The high-water mark is the number pairOf instances the pool needs to
+ * hold to serve the peak without creating new ones.
+ *
+ * @param <E> the type pairOf the entity
+ */
+@Getter
+public class EntityPool<E extends Entity & Poolable> {
+
+    @Getter(AccessLevel.NONE)
+    private final Supplier<E> factory;
+    @Getter(AccessLevel.NONE)
+    private final Deque<E> free = new ArrayDeque<>();
+    @Getter(AccessLevel.NONE)
+    private final Set<E> freeSet = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    private int created;
+    private int inUse;
+    private int highWaterMark;
+
+    /**
+     * Instantiates a new entity pool.
+     *
+     * @param factory the factory that creates a new entity when the pool is empty
+     */
+    public EntityPool(Supplier<E> factory) {
+        this.factory = factory;
+    }
+
+    /**
+     * Returns a free entity, or a new one if there is none. The entity is revived and reset, see
+     * {@link Entity#revive()} and {@link Poolable#reset()}.
+     *
+     * @return the entity
+     */
+    public E obtain() {
+        E entity = free.poll();
+        if (entity == null) {
+            entity = factory.get();
+            created++;
+        } else {
+            freeSet.remove(entity);
+            entity.revive();
+        }
+        entity.reset();
+        inUse++;
+        highWaterMark = Math.max(highWaterMark, inUse);
+        return entity;
+    }
+
+    /**
+     * Returns the entity to this pool. The entity must no longer be added to the game context. Does nothing and
+     * returns false if the entity is already free, so that an entity freed twice is not handed out twice.
+     *
+     * @param entity the entity
+     * @return if the entity was returned to this pool
+     */
+    public boolean free(E entity) {
+        if (!freeSet.add(entity)) {
+            return false;
+        }
+        free.push(entity);
+        inUse = Math.max(inUse - 1, 0);
+        return true;
+    }
+
+    /**
+     * Returns the number pairOf entities in this pool waiting to be obtained.
+     *
+     * @return the number pairOf free entities
+     */
+    public int getFreeCount() {
+        return free.size();
+    }
+
+    /**
+     * Drops all free entities and resets the metrics.
+     */
+    public void clear() {
+        free.clear();
+        freeSet.clear();
+        created = 0;
+        inUse = 0;
+        highWaterMark = 0;
+    }
+
+}
@@ -0,0 +1,87 @@
+package com.game.entities;
+
+import com.game.entities.contracts.Poolable;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.function.Supplier;
+
+import static java.util.Collections.unmodifiableMap;
+
+/**
+ * Registry pairOf {@link EntityPool} instances keyed by entity class.
+ */
+public class EntityPools {
+
+    private final Map<Class<?>, EntityPool<?>> pools = new LinkedHashMap<>();
+
+    /**
+     * Registers a pool for the entity class.
+     *
+     * @param eClass  the entity class
+     * @param factory the factory that creates a new entity when the pool is empty
+     * @param <E>     the type pairOf the entity
+     */
+    public <E extends Entity & Poolable> void register(Class<E> eClass, Supplier<E> factory) {
+        pools.put(eClass, new EntityPool<>(factory));
+    }
+
+    /**
+     * Obtains an entity from the pool registered for the entity class.
+     *
+     * @param eClass the entity class
+     * @param <E>    the type pairOf the entity
+     * @return the entity
+     * @throws NoSuchElementException if no pool is registered for the entity class
+     */
+    public <E extends Entity & Poolable> E obtain(Class<E> eClass) {
+        return eClass.cast(getPool(eClass).obtain());
+    }
+
+    /**
+     * Returns the entity to the pool registered for its class. Returns false if the entity is not poolable, no pool
+     * is registered for its class, or it is already free.
+     *
+     * @param entity the entity
+     * @return if the entity was returned to a pool
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public boolean free(Entity entity) {
+        if (!(entity instanceof Poolable)) {
+            return false;
+        }
+        EntityPool<?> pool = pools.get(entity.getClass());
+        if (pool == null) {
+            return false;
+        }
+        return ((EntityPool) pool).free(entity);
+    }
+
+    /**
+     * Returns the pool registered for the entity class.
+     *
+     * @param eClass the entity class
+     * @param <E>    the type pairOf the entity
+     * @return the pool
+     * @throws NoSuchElementException if no pool is registered for the entity class
+     */
+    @SuppressWarnings("unchecked")
+    public <E extends Entity & Poolable> EntityPool<E> getPool(Class<E> eClass) {
+        EntityPool<?> pool = pools.get(eClass);
+        if (pool == null) {
+            throw new NoSuchElementException("No pool registered for " + eClass.getSimpleName());
+        }
+        return (EntityPool<E>) pool;
+    }
+
+    /**
+     * View pairOf the pools keyed by entity class, for reading pool metrics.
+     *
+     * @return the pools
+     */
+    public Map<Class<?>, EntityPool<?>> getPools() {
+        return unmodifiableMap(pools);
+    }
+
+}
@@ -11,7 +11,12 @@ import com.game.movement.TrajectoryComponent;
 import com.game.world.BodyComponent;
 import com.game.world.Fixture;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
+import java.util.function.Function;
+import java.util.function.Predicate;
 
 import static com.game.ViewVals.PPM;
 import static com.game.utils.UtilMethods.centerPoint;
@@ -24,7 +29,7 @@ public class Block extends Entity {
 
     public Block(GameContext2d gameContext, Rectangle bounds, boolean wallslide) {
         super(gameContext);
-        set(bounds, STANDARD_FRICTION.cpy(), false, false, wallslide, wallslide, false);
+        set(bounds, STANDARD_FRICTION.cpy(), false, false, wallslide, wallslide, false, List.of());
     }
 
     public Block(GameContext2d gameContext, RectangleMapObject rectObj) {
@@ -33,81 +38,122 @@ public class Block extends Entity {
 
     public Block(GameContext2d gameContext, Rectangle bounds, MapProperties properties) {
         super(gameContext);
-        Vector2 friction = STANDARD_FRICTION.cpy();
-        if (properties.containsKey("frictionX")) {
-            friction.x = properties.get("frictionX", Float.class);
-        }
-        if (properties.containsKey("frictionY")) {
-            friction.y = properties.get("frictionY", Float.class);
-        }
-        boolean resistance = false, gravityOn = false, wallSlideLeft = true, wallSlideRight = true, feetSticky = false;
-        if (properties.containsKey("resistance")) {
-            resistance = properties.get("resist", Boolean.class);
-        }
-        if (properties.containsKey("gravityOn")) {
-            gravityOn = properties.get("gravityOn", Boolean.class);
-        }
-        if (properties.containsKey("wallSlide")) {
-            wallSlideLeft = wallSlideRight = properties.get("wallSlide", Boolean.class);
-        }
-        if (properties.containsKey("wallSlideLeft")) {
-            wallSlideLeft = properties.get("wallSlideLeft", Boolean.class);
-        }
-        if (properties.containsKey("wallSlideRight")) {
-            wallSlideRight = properties.get("wallSlideRight", Boolean.class);
-        }
-        if (properties.containsKey("feetSticky")) {
-            feetSticky = properties.get("feetSticky", Boolean.class);
-        }
-        set(bounds, properties, friction, resistance, gravityOn, wallSlideLeft, wallSlideRight, feetSticky);
-    }
-
-    private void set(Rectangle bounds, MapProperties properties, Vector2 friction, boolean resistance,
-                     boolean gravityOn, boolean wallSlideLeft, boolean wallSlideRight, boolean feetSticky) {
-        set(bounds, friction, resistance, gravityOn, wallSlideLeft, wallSlideRight, feetSticky);
-        if (properties != null && properties.containsKey("trajectory")) {
+        set(bounds, BlockProperties.of(properties), List.of());
+        if (properties.containsKey("trajectory")) {
             String trajStr = properties.get("trajectory", String.class);
             addComponent(new TrajectoryComponent(trajStr,
                     centerPoint(getComponent(BodyComponent.class).getCollisionBox())));
         }
     }
 
+    /**
+     * Instantiates a static block whose edge sensors are only placed along the parts pairOf its edges not covered by
+     * the neighboring blocks, see {@link BlockFactory#createAll(GameContext2d, List, boolean)}.
+     *
+     * @param gameContext the game context
+     * @param bounds      the bounds
+     * @param properties  the block properties
+     * @param neighbors   the bounds pairOf the static blocks that may touch this block, may include its own bounds
+     */
+    public Block(GameContext2d gameContext, Rectangle bounds, BlockProperties properties,
+                 Collection<Rectangle> neighbors) {
+        super(gameContext);
+        set(bounds, properties, neighbors);
+    }
+
+    private void set(Rectangle bounds, BlockProperties properties, Collection<Rectangle> neighbors) {
+        set(bounds, new Vector2(properties.frictionX(), properties.frictionY()), properties.resistance(),
+                properties.gravityOn(), properties.wallSlideLeft(), properties.wallSlideRight(),
+                properties.feetSticky(), neighbors);
+    }
+
     private void set(Rectangle bounds, Vector2 friction, boolean resistance, boolean gravityOn, boolean wallSlideLeft,
-                     boolean wallSlideRight, boolean feetSticky) {
+                     boolean wallSlideRight, boolean feetSticky, Collection<Rectangle> neighbors) {
         addComponent(graphComponent());
         addComponent(bodyComponent(bounds, friction, resistance, gravityOn,
-                wallSlideLeft, wallSlideRight, feetSticky));
+                wallSlideLeft, wallSlideRight, feetSticky, neighbors));
     }
 
     protected BodyComponent bodyComponent(Rectangle bounds, Vector2 friction, boolean resistance, boolean gravityOn,
-                                          boolean wallSlideLeft, boolean wallSlideRight, boolean feetSticky) {
+                                          boolean wallSlideLeft, boolean wallSlideRight, boolean feetSticky,
+                                          Collection<Rectangle> neighbors) {
         BodyComponent bodyComponent = new BodyComponent(STATIC);
         bodyComponent.set(bounds);
         bodyComponent.setFriction(friction);
         bodyComponent.setGravityOn(gravityOn);
         bodyComponent.setAffectedByResistance(resistance);
         bodyComponent.addFixture(new Fixture(this, bodyComponent.getCollisionBox(), BLOCK));
+        Rectangle box = bodyComponent.getCollisionBox();
         if (wallSlideLeft) {
-            Fixture leftWallSlide = new Fixture(this, new Rectangle(0f, 0f, PPM / 3f,
-                    bodyComponent.getCollisionBox().height), WALL_SLIDE_SENSOR);
-            leftWallSlide.setOffset(-bodyComponent.getCollisionBox().width / 2f, 0f);
-            bodyComponent.addFixture(leftWallSlide);
+            List<Float> spans = exposedSpans(box.height, neighbors, n -> n.x < box.x && n.x + n.width >= box.x,
+                    n -> n.y - box.y, n -> n.y + n.height - box.y);
+            for (int i = 0; i < spans.size(); i += 2) {
+                Fixture leftWallSlide = new Fixture(this, new Rectangle(0f, 0f, PPM / 3f,
+                        spans.get(i + 1) - spans.get(i)), WALL_SLIDE_SENSOR);
+                leftWallSlide.setOffset(-box.width / 2f, spanCenter(spans, i) - box.height / 2f);
+                bodyComponent.addFixture(leftWallSlide);
+            }
         }
         if (wallSlideRight) {
-            Fixture rightWallSlide = new Fixture(this, new Rectangle(0f, 0f, PPM / 3f,
-                    bodyComponent.getCollisionBox().height), WALL_SLIDE_SENSOR);
-            rightWallSlide.setOffset(bodyComponent.getCollisionBox().width / 2f, 0f);
-            bodyComponent.addFixture(rightWallSlide);
+            List<Float> spans = exposedSpans(box.height, neighbors, n ->
+                    n.x <= box.x + box.width && n.x + n.width > box.x + box.width, n -> n.y - box.y,
+                    n -> n.y + n.height - box.y);
+            for (int i = 0; i < spans.size(); i += 2) {
+                Fixture rightWallSlide = new Fixture(this, new Rectangle(0f, 0f, PPM / 3f,
+                        spans.get(i + 1) - spans.get(i)), WALL_SLIDE_SENSOR);
+                rightWallSlide.setOffset(box.width / 2f, spanCenter(spans, i) - box.height / 2f);
+                bodyComponent.addFixture(rightWallSlide);
+            }
         }
         if (feetSticky) {
-            Fixture feetSticker = new Fixture(this, new Rectangle(0f, 0f, bodyComponent.getCollisionBox().width,
-                    PPM / 3f), FEET_STICKER);
-            feetSticker.setOffset(0f, (bodyComponent.getCollisionBox().height / 2f) - 2f);
-            bodyComponent.addFixture(feetSticker);
+            List<Float> spans = exposedSpans(box.width, neighbors, n ->
+                    n.y <= box.y + box.height && n.y + n.height > box.y + box.height, n -> n.x - box.x,
+                    n -> n.x + n.width - box.x);
+            for (int i = 0; i < spans.size(); i += 2) {
+                Fixture feetSticker = new Fixture(this, new Rectangle(0f, 0f, spans.get(i + 1) - spans.get(i),
+                        PPM / 3f), FEET_STICKER);
+                feetSticker.setOffset(spanCenter(spans, i) - box.width / 2f, (box.height / 2f) - 2f);
+                bodyComponent.addFixture(feetSticker);
+            }
         }
         return bodyComponent;
     }
 
+    /**
+     * Returns the parts pairOf the edge pairOf the length that are not covered by the neighbors touching the edge, as
+     * pairs pairOf start and end values measured from the start pairOf the edge. With no touching neighbors, the whole
+     * edge from zero to the length is returned.
+     */
+    private static List<Float> exposedSpans(float length, Collection<Rectangle> neighbors,
+                                            Predicate<Rectangle> touching, Function<Rectangle, Float> spanStart,
+                                            Function<Rectangle, Float> spanEnd) {
+        List<Rectangle> covering = new ArrayList<>();
+        for (Rectangle neighbor : neighbors) {
+            if (touching.test(neighbor) && spanStart.apply(neighbor) < length && spanEnd.apply(neighbor) > 0f) {
+                covering.add(neighbor);
+            }
+        }
+        covering.sort(Comparator.comparing(spanStart));
+        List<Float> spans = new ArrayList<>();
+        float exposedStart = 0f;
+        for (Rectangle neighbor : covering) {
+            if (spanStart.apply(neighbor) > exposedStart) {
+                spans.add(exposedStart);
+                spans.add(spanStart.apply(neighbor));
+            }
+            exposedStart = Math.max(exposedStart, spanEnd.apply(neighbor));
+        }
+        if (exposedStart < length) {
+            spans.add(exposedStart);
+            spans.add(length);
+        }
+        return spans;
+    }
+
+    private static float spanCenter(List<Float> spans, int i) {
+        return (spans.get(i) + spans.get(i + 1)) / 2f;
+    }
+
     protected GraphComponent graphComponent() {
         GraphComponent graphComponent = new GraphComponent();
         graphComponent.addSupplier(() -> getComponent(BodyComponent.class).getCollisionBox(), () -> List.of(this));
@@ -1,13 +1,21 @@
 package com.game.entities.blocks;
 
 import com.badlogic.gdx.maps.objects.RectangleMapObject;
+import com.badlogic.gdx.math.Rectangle;
 import com.game.GameContext2d;
 import com.game.entities.blocks.impl.GearTrolley;
 import com.game.entities.blocks.impl.JeffBezosLittleDickRocket;
 import com.game.entities.special.Ice;
 
+import java.util.*;
+
 public class BlockFactory {
 
+    private static final Comparator<MergeRect> ROW_ORDER = Comparator.<MergeRect>comparingDouble(r -> r.bounds.y)
+            .thenComparingDouble(r -> r.bounds.height).thenComparingDouble(r -> r.bounds.x);
+    private static final Comparator<MergeRect> COLUMN_ORDER = Comparator.<MergeRect>comparingDouble(r -> r.bounds.x)
+            .thenComparingDouble(r -> r.bounds.width).thenComparingDouble(r -> r.bounds.y);
+
     public static void create(GameContext2d gameContext, RectangleMapObject blockObj) {
         Block block;
         if (blockObj.getName() != null) {
@@ -27,4 +35,110 @@ public class BlockFactory {
         gameContext.addEntity(block);
     }
 
+    /**
+     * Creates the blocks pairOf the block objects. If merge is true, then the plain static blocks, those without a
+     * name or a trajectory, are first grouped by their {@link BlockProperties}, and the blocks pairOf each group that
+     * share a whole edge or overlap along one are greedily merged, first along rows and then along columns until none
+     * are left to merge, so that a detailed map loads far fewer static bodies. The wall-slide and feet sticker
+     * sensors pairOf each merged block are only placed along the parts pairOf its edges not covered by another plain
+     * static block.
+     * <p>
+     * Blocks are created in the order pairOf the block objects, a merged block taking the place pairOf the first block
+     * object merged into it. Other blocks are created the same as by
+     * {@link #create(GameContext2d, RectangleMapObject)}.
+     *
+     * @param gameContext the game context
+     * @param blockObjs   the block objects
+     * @param merge       if plain static blocks are merged
+     */
+    public static void createAll(GameContext2d gameContext, List<RectangleMapObject> blockObjs, boolean merge) {
+        if (!merge) {
+            blockObjs.forEach(blockObj -> create(gameContext, blockObj));
+            return;
+        }
+        Runnable[] creators = new Runnable[blockObjs.size()];
+        Map<BlockProperties, List<MergeRect>> groups = new LinkedHashMap<>();
+        List<Rectangle> staticBounds = new ArrayList<>();
+        for (int i = 0; i < blockObjs.size(); i++) {
+            RectangleMapObject blockObj = blockObjs.get(i);
+            if (blockObj.getName() != null || blockObj.getProperties().containsKey("trajectory")) {
+                creators[i] = () -> create(gameContext, blockObj);
+                continue;
+            }
+            Rectangle bounds = new Rectangle(blockObj.getRectangle());
+            staticBounds.add(bounds);
+            groups.computeIfAbsent(BlockProperties.of(blockObj.getProperties()), properties -> new ArrayList<>())
+                    .add(new MergeRect(new Rectangle(bounds), i));
+        }
+        groups.forEach((properties, mergeRects) -> {
+            merge(mergeRects);
+            for (MergeRect mergeRect : mergeRects) {
+                creators[mergeRect.firstIndex] = () -> gameContext.addEntity(
+                        new Block(gameContext, mergeRect.bounds, properties, staticBounds));
+            }
+        });
+        for (Runnable creator : creators) {
+            if (creator != null) {
+                creator.run();
+            }
+        }
+    }
+
+    private static void merge(List<MergeRect> mergeRects) {
+        boolean merged;
+        do {
+            merged = mergeRuns(mergeRects, true);
+            merged |= mergeRuns(mergeRects, false);
+        } while (merged);
+    }
+
+    private static boolean mergeRuns(List<MergeRect> mergeRects, boolean rows) {
+        mergeRects.sort(rows ? ROW_ORDER : COLUMN_ORDER);
+        List<MergeRect> runs = new ArrayList<>();
+        MergeRect run = null;
+        for (MergeRect mergeRect : mergeRects) {
+            if (run != null && run.extend(mergeRect, rows)) {
+                continue;
+            }
+            run = mergeRect;
+            runs.add(run);
+        }
+        boolean merged = runs.size() < mergeRects.size();
+        mergeRects.clear();
+        mergeRects.addAll(runs);
+        return merged;
+    }
+
+    private static class MergeRect {
+
+        private final Rectangle bounds;
+        private int firstIndex;
+
+        private MergeRect(Rectangle bounds, int firstIndex) {
+            this.bounds = bounds;
+            this.firstIndex = firstIndex;
+        }
+
+        /**
+         * Extends this rectangle over the other if they span the same row, or column, and touch or overlap along it.
+         */
+        private boolean extend(MergeRect other, boolean rows) {
+            Rectangle o = other.bounds;
+            if (rows) {
+                if (o.y != bounds.y || o.height != bounds.height || o.x > bounds.x + bounds.width) {
+                    return false;
+                }
+                bounds.width = Math.max(bounds.x + bounds.width, o.x + o.width) - bounds.x;
+            } else {
+                if (o.x != bounds.x || o.width != bounds.width || o.y > bounds.y + bounds.height) {
+                    return false;
+                }
+                bounds.height = Math.max(bounds.y + bounds.height, o.y + o.height) - bounds.y;
+            }
+            firstIndex = Math.min(firstIndex, other.firstIndex);
+            return true;
+        }
+
+    }
+
 }
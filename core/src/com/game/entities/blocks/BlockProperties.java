@@ -0,0 +1,59 @@
+package com.game.entities.blocks;
+
+import com.badlogic.gdx.maps.MapProperties;
+
+/**
+ * The physical properties pairOf a {@link Block} read from its map object properties. Blocks with equal properties
+ * behave the same, so {@link BlockFactory} can merge adjacent ones into one block.
+ *
+ * @param frictionX      the x friction
+ * @param frictionY      the y friction
+ * @param resistance     if bodies resting on the block are affected by resistance
+ * @param gravityOn      if gravity is on
+ * @param wallSlideLeft  if the left edge can be wall-slid on
+ * @param wallSlideRight if the right edge can be wall-slid on
+ * @param feetSticky     if feet stick to the top edge
+ */
+public record BlockProperties(float frictionX, float frictionY, boolean resistance, boolean gravityOn,
+                              boolean wallSlideLeft, boolean wallSlideRight, boolean feetSticky) {
+
+    /**
+     * Reads the block properties from the map properties, defaulting to {@link Block#STANDARD_FRICTION} and to
+     * wall-sliding on both edges.
+     *
+     * @param properties the map properties
+     * @return the block properties
+     */
+    public static BlockProperties of(MapProperties properties) {
+        float frictionX = Block.STANDARD_FRICTION.x;
+        float frictionY = Block.STANDARD_FRICTION.y;
+        if (properties.containsKey("frictionX")) {
+            frictionX = properties.get("frictionX", Float.class);
+        }
+        if (properties.containsKey("frictionY")) {
+            frictionY = properties.get("frictionY", Float.class);
+        }
+        boolean resistance = false, gravityOn = false, wallSlideLeft = true, wallSlideRight = true, feetSticky = false;
+        if (properties.containsKey("resistance")) {
+            resistance = properties.get("resistance", Boolean.class);
+        }
+        if (properties.containsKey("gravityOn")) {
+            gravityOn = properties.get("gravityOn", Boolean.class);
+        }
+        if (properties.containsKey("wallSlide")) {
+            wallSlideLeft = wallSlideRight = properties.get("wallSlide", Boolean.class);
+        }
+        if (properties.containsKey("wallSlideLeft")) {
+            wallSlideLeft = properties.get("wallSlideLeft", Boolean.class);
+        }
+        if (properties.containsKey("wallSlideRight")) {
+            wallSlideRight = properties.get("wallSlideRight", Boolean.class);
+        }
+        if (properties.containsKey("feetSticky")) {
+            feetSticky = properties.get("feetSticky", Boolean.class);
+        }
+        return new BlockProperties(frictionX, frictionY, resistance, gravityOn, wallSlideLeft, wallSlideRight,
+                feetSticky);
+    }
+
+}
@@ -0,0 +1,20 @@
+package com.game.entities.contracts;
+
+import com.game.entities.EntityPool;
+import com.game.utils.interfaces.Resettable;
+
+/**
+ * Interface for any entity that can be recycled through an {@link EntityPool} instead pairOf being built again. The
+ * implementor is constructed once with its components, {@link #reset()} is called each time the entity is obtained from
+ * the pool, and an init method specific to the implementor is expected to apply the spawn parameters afterwards.
+ */
+public interface Poolable extends Resettable {
+
+    /**
+     * Restores the per-spawn state pairOf this entity, such as timers, animations, and velocity, to the state it had
+     * right after construction. Components and fixtures are kept.
+     */
+    @Override
+    void reset();
+
+}
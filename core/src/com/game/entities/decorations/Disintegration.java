@@ -3,57 +3,73 @@ package com.game.entities.decorations;
 import com.badlogic.gdx.graphics.g2d.Sprite;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.math.Vector2;
-import com.game.Component;
 import com.game.entities.Entity;
 import com.game.GameContext2d;
 import com.game.animations.AnimationComponent;
 import com.game.animations.TimedAnimation;
+import com.game.entities.contracts.Poolable;
 import com.game.sprites.SpriteComponent;
 import com.game.sprites.SpriteProcessor;
 import com.game.updatables.UpdatableComponent;
 import com.game.utils.objects.Timer;
 import com.game.world.BodyComponent;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 
-import java.util.HashMap;
-import java.util.Map;
-
 import static com.game.assets.TextureAsset.DECORATIONS;
 import static com.game.ViewVals.PPM;
 import static com.game.world.BodyType.*;
 
 @Getter
 @Setter
-public class Disintegration extends Entity {
+public class Disintegration extends Entity implements Poolable {
 
     public static final float DISINTEGRATION_DURATION = .1f;
 
-    private final Map<Class<? extends Component>, Component> components = new HashMap<>();
     private final Timer timer = new Timer(DISINTEGRATION_DURATION);
-    private boolean dead;
 
-    public Disintegration(GameContext2d gameContext, Vector2 center) {
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private TimedAnimation timedAnimation;
+
+    public Disintegration(GameContext2d gameContext) {
         super(gameContext);
         addComponent(updatableComponent());
-        addComponent(bodyComponent(center));
-        addComponent(spriteComponent(center));
+        addComponent(bodyComponent());
+        addComponent(spriteComponent());
         addComponent(animationComponent(gameContext));
     }
 
-    private BodyComponent bodyComponent(Vector2 center) {
+    /**
+     * Initializes this disintegration with its spawn parameters after it is obtained from its pool.
+     *
+     * @param center the center
+     * @return this disintegration
+     */
+    public Disintegration init(Vector2 center) {
+        getComponent(BodyComponent.class).setCenter(center);
+        getComponent(SpriteComponent.class).getSprite().setCenter(center.x, center.y);
+        return this;
+    }
+
+    @Override
+    public void reset() {
+        timer.reset();
+        timedAnimation.reset();
+    }
+
+    private BodyComponent bodyComponent() {
         BodyComponent bodyComponent = new BodyComponent(ABSTRACT);
         bodyComponent.setFriction(0f, 0f);
         bodyComponent.setGravityOn(false);
         bodyComponent.setSize(PPM, PPM);
-        bodyComponent.setCenter(center);
         return bodyComponent;
     }
 
-    private SpriteComponent spriteComponent(Vector2 center) {
+    private SpriteComponent spriteComponent() {
         Sprite sprite = new Sprite();
         sprite.setSize(PPM, PPM);
-        sprite.setCenter(center.x, center.y);
         return new SpriteComponent(sprite, new SpriteProcessor() {
             @Override
             public int getSpriteRenderPriority() {
@@ -63,8 +79,9 @@ public class Disintegration extends Entity {
     }
 
     private AnimationComponent animationComponent(GameContext2d gameContext) {
-        return new AnimationComponent(new TimedAnimation(gameContext.getAsset(
-                DECORATIONS.getSrc(), TextureAtlas.class).findRegion("Disintegration"), 3, 0.005f));
+        timedAnimation = new TimedAnimation(gameContext.getAsset(
+                DECORATIONS.getSrc(), TextureAtlas.class).findRegion("Disintegration"), 3, 0.005f);
+        return new AnimationComponent(timedAnimation);
     }
 
     private UpdatableComponent updatableComponent() {
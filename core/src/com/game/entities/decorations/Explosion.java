@@ -7,6 +7,7 @@ import com.game.entities.Entity;
 import com.game.GameContext2d;
 import com.game.animations.AnimationComponent;
 import com.game.animations.TimedAnimation;
+import com.game.entities.contracts.Poolable;
 import com.game.sprites.SpriteComponent;
 import com.game.sprites.SpriteProcessor;
 import com.game.updatables.UpdatableComponent;
@@ -17,23 +18,38 @@ import lombok.Setter;
 import static com.game.assets.TextureAsset.DECORATIONS;
 import static com.game.ViewVals.PPM;
 
-public class Explosion extends Entity {
+public class Explosion extends Entity implements Poolable {
 
     @Getter(AccessLevel.NONE)
     @Setter(AccessLevel.NONE)
     private TimedAnimation timedAnimation;
 
-    public Explosion(GameContext2d gameContext, Vector2 center) {
+    public Explosion(GameContext2d gameContext) {
         super(gameContext);
         addComponent(animationComponent(gameContext));
-        addComponent(spriteComponent(center));
+        addComponent(spriteComponent());
         addComponent(updatableComponent());
     }
 
-    private SpriteComponent spriteComponent(Vector2 center) {
+    /**
+     * Initializes this explosion with its spawn parameters after it is obtained from its pool.
+     *
+     * @param center the center
+     * @return this explosion
+     */
+    public Explosion init(Vector2 center) {
+        getComponent(SpriteComponent.class).getSprite().setCenter(center.x, center.y);
+        return this;
+    }
+
+    @Override
+    public void reset() {
+        timedAnimation.reset();
+    }
+
+    private SpriteComponent spriteComponent() {
         Sprite sprite = new Sprite();
         sprite.setSize(2.5f * PPM, 2.5f * PPM);
-        sprite.setCenter(center.x, center.y);
         return new SpriteComponent(sprite, new SpriteProcessor() {
             @Override
             public int getSpriteRenderPriority() {
@@ -9,10 +9,12 @@ import com.game.animations.AnimationComponent;
 import com.game.animations.TimedAnimation;
 import com.game.cull.CullOnMessageComponent;
 import com.game.cull.CullOutOfCamBoundsComponent;
+import com.game.entities.contracts.Poolable;
 import com.game.sprites.SpriteComponent;
 import com.game.sprites.SpriteProcessor;
 import com.game.updatables.UpdatableComponent;
 import com.game.utils.objects.Timer;
+import lombok.AccessLevel;
 import lombok.Getter;
 
 import static com.game.assets.TextureAsset.DECORATIONS;
@@ -20,35 +22,59 @@ import static com.game.ViewVals.PPM;
 import static com.game.messages.MessageType.*;
 
 @Getter
-public class ExplosionOrb extends Entity {
+public class ExplosionOrb extends Entity implements Poolable {
 
     private final Timer cullTimer = new Timer(.5f);
+    private final Vector2 trajectory = new Vector2();
 
-    public ExplosionOrb(GameContext2d gameContext, Vector2 spawn, Vector2 trajectory) {
+    @Getter(AccessLevel.NONE)
+    private TimedAnimation timedAnimation;
+
+    public ExplosionOrb(GameContext2d gameContext) {
         super(gameContext);
-        addComponent(spriteComponent(spawn));
-        addComponent(updatableComponent(trajectory));
+        addComponent(spriteComponent());
+        addComponent(updatableComponent());
         addComponent(animationComponent(gameContext));
         addComponent(new CullOutOfCamBoundsComponent(
                 () -> getComponent(SpriteComponent.class).getSprite().getBoundingRectangle(), .1f));
         addComponent(cullOnMessageComponent());
     }
 
+    /**
+     * Initializes this explosion orb with its spawn parameters after it is obtained from its pool.
+     *
+     * @param spawn      the spawn
+     * @param trajectory the trajectory
+     * @return this explosion orb
+     */
+    public ExplosionOrb init(Vector2 spawn, Vector2 trajectory) {
+        this.trajectory.set(trajectory);
+        getComponent(SpriteComponent.class).getSprite().setCenter(spawn.x, spawn.y);
+        return this;
+    }
+
+    @Override
+    public void reset() {
+        cullTimer.reset();
+        trajectory.setZero();
+        timedAnimation.reset();
+        getComponent(CullOutOfCamBoundsComponent.class).resetCullTimer();
+    }
+
     private CullOnMessageComponent cullOnMessageComponent() {
         CullOnMessageComponent cullOnMessageComponent = new CullOnMessageComponent();
         cullOnMessageComponent.addCullMessagePredicate(PLAYER_SPAWN);
         return cullOnMessageComponent;
     }
 
-    private UpdatableComponent updatableComponent(Vector2 trajectory) {
+    private UpdatableComponent updatableComponent() {
         return new UpdatableComponent(delta -> getComponent(SpriteComponent.class).getSprite().translate(
                 trajectory.x * PPM * delta, trajectory.y * PPM * delta));
     }
 
-    private SpriteComponent spriteComponent(Vector2 spawn) {
+    private SpriteComponent spriteComponent() {
         Sprite sprite = new Sprite();
         sprite.setSize(3f * PPM, 3f * PPM);
-        sprite.setCenter(spawn.x, spawn.y);
         return new SpriteComponent(sprite, new SpriteProcessor() {
             @Override
             public int getSpriteRenderPriority() {
@@ -58,8 +84,9 @@ public class ExplosionOrb extends Entity {
     }
 
     private AnimationComponent animationComponent(GameContext2d gameContext) {
-        return new AnimationComponent(new TimedAnimation(gameContext.getAsset(
-                DECORATIONS.getSrc(), TextureAtlas.class).findRegion("PlayerExplosionOrbs"), 2, .075f));
+        timedAnimation = new TimedAnimation(gameContext.getAsset(
+                DECORATIONS.getSrc(), TextureAtlas.class).findRegion("PlayerExplosionOrbs"), 2, .075f);
+        return new AnimationComponent(timedAnimation);
     }
 
 }
@@ -9,6 +9,7 @@ import com.game.GameContext2d;
 import com.game.animations.AnimationComponent;
 import com.game.animations.TimedAnimation;
 import com.game.entities.Entity;
+import com.game.entities.contracts.Poolable;
 import com.game.sprites.SpriteComponent;
 import com.game.sprites.SpriteProcessor;
 import com.game.updatables.UpdatableComponent;
@@ -16,13 +17,16 @@ import com.game.utils.objects.KeyValuePair;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 import static com.game.ViewVals.PPM;
 import static com.game.assets.TextureAsset.WATER;
 import static com.game.utils.UtilMethods.setBottomCenterToPoint;
 
-public class WaterSplash extends Entity {
+public class WaterSplash extends Entity implements Poolable {
+
+    private final Rectangle bounds = new Rectangle(0f, 0f, PPM, PPM);
+
+    private TimedAnimation splashAnimation;
 
     public static List<WaterSplash> create(GameContext2d gameContext, Rectangle bounds) {
         int waterSplashes = (int) Math.ceil(bounds.width / PPM);
@@ -34,21 +38,39 @@ public class WaterSplash extends Entity {
     }
 
     public static List<WaterSplash> create(GameContext2d gameContext, List<Vector2> bottomCenterPositions) {
-        return bottomCenterPositions.stream().map(bottomCenterPos -> new WaterSplash(gameContext, bottomCenterPos))
-                .collect(Collectors.toList());
+        List<WaterSplash> waterSplashes = new ArrayList<>(bottomCenterPositions.size());
+        for (Vector2 bottomCenterPos : bottomCenterPositions) {
+            waterSplashes.add(gameContext.obtainEntity(WaterSplash.class).init(bottomCenterPos));
+        }
+        return waterSplashes;
     }
 
-    public WaterSplash(GameContext2d gameContext, Vector2 bottomCenterPos) {
+    public WaterSplash(GameContext2d gameContext) {
         super(gameContext);
-        Rectangle bounds = new Rectangle();
-        bounds.setSize(PPM, PPM);
-        setBottomCenterToPoint(bounds, bottomCenterPos);
         addComponent(spriteComponent(bounds));
         KeyValuePair<AnimationComponent, TimedAnimation> animPair = animationComponent(gameContext);
+        splashAnimation = animPair.value();
         addComponent(animPair.key());
         addComponent(updatableComponent(animPair.value()));
     }
 
+    /**
+     * Initializes this water splash with its spawn parameters after it is obtained from its pool.
+     *
+     * @param bottomCenterPos the bottom center position
+     * @return this water splash
+     */
+    public WaterSplash init(Vector2 bottomCenterPos) {
+        setBottomCenterToPoint(bounds, bottomCenterPos);
+        getComponent(SpriteComponent.class).getSprite().setBounds(bounds.x, bounds.y, bounds.width, bounds.height);
+        return this;
+    }
+
+    @Override
+    public void reset() {
+        splashAnimation.reset();
+    }
+
     protected UpdatableComponent updatableComponent(TimedAnimation splashAnimation) {
         return new UpdatableComponent(delta -> {
             if (splashAnimation.isFinished()) {
@@ -97,11 +97,13 @@ public abstract class AbstractEnemy extends Entity implements Damager, Damageabl
 
     protected void disintegrate() {
         getComponent(SoundComponent.class).requestSound(ENEMY_DAMAGE_SOUND);
-        gameContext.addEntity(new Disintegration(gameContext, getComponent(BodyComponent.class).getCenter()));
+        gameContext.addEntity(gameContext.obtainEntity(Disintegration.class)
+                .init(getComponent(BodyComponent.class).getCenter()));
     }
 
     protected void explode() {
-        gameContext.addEntity(new Explosion(gameContext, getComponent(BodyComponent.class).getCenter()));
+        gameContext.addEntity(gameContext.obtainEntity(Explosion.class)
+                .init(getComponent(BodyComponent.class).getCenter()));
         getComponent(SoundComponent.class).requestSound(EXPLOSION_SOUND);
     }
 
@@ -94,7 +94,7 @@ public class Met extends AbstractEnemy implements Faceable {
         BodyComponent bodyComponent = getComponent(BodyComponent.class);
         Vector2 trajectory = new Vector2((isFacing(F_RIGHT) ? 10f : -10f) * PPM, .5f * PPM);
         Vector2 spawn = bodyComponent.getCenter().cpy().add(isFacing(F_RIGHT) ? .5f : -.5f, -4f);
-        gameContext.addEntity(new Bullet(gameContext, this, trajectory, spawn));
+        gameContext.addEntity(gameContext.obtainEntity(Bullet.class).init(this, trajectory, spawn));
         getComponent(SoundComponent.class).requestSound(ENEMY_BULLET_SOUND);
     }
 
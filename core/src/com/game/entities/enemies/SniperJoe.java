@@ -86,7 +86,7 @@ public class SniperJoe extends AbstractEnemy implements Faceable {
         Vector2 trajectory = new Vector2(PPM * (isFacing(F_LEFT) ? -BULLET_SPEED : BULLET_SPEED), 0f);
         Vector2 spawn = getComponent(BodyComponent.class).getCenter().cpy().add(
                 (isFacing(F_LEFT) ? -.2f : .2f) * PPM, -.15f * PPM);
-        gameContext.addEntity(new Bullet(gameContext, this, trajectory, spawn));
+        gameContext.addEntity(gameContext.obtainEntity(Bullet.class).init(this, trajectory, spawn));
         getComponent(SoundComponent.class).requestSound(ENEMY_BULLET_SOUND);
     }
 
@@ -24,14 +24,14 @@ import com.game.utils.objects.Timer;
 import com.game.utils.objects.Wrapper;
 import com.game.world.BodyComponent;
 import com.game.world.Fixture;
+import com.game.world.RaycastHit;
+import com.game.world.WorldSystem;
 
 import java.util.Map;
-import java.util.PriorityQueue;
-import java.util.Queue;
+import java.util.function.Predicate;
 
 import static com.badlogic.gdx.graphics.Color.*;
 import static com.badlogic.gdx.graphics.glutils.ShapeRenderer.ShapeType.*;
-import static com.game.GlobalKeys.COLLECTION;
 import static com.game.assets.TextureAsset.*;
 import static com.game.ViewVals.PPM;
 import static com.game.utils.ShapeUtils.*;
@@ -53,7 +53,9 @@ public class LaserBeamer extends Entity implements Damager {
     public static final float INIT_DEGREES = 270f;
     public static final float THICKNESS = PPM / 32f;
 
-    private final Queue<Vector2> blockContactPoints;
+    private final RaycastHit raycastHit = new RaycastHit();
+    private final Predicate<Fixture> blockFilter = fixture -> fixture.isFixtureType(BLOCK) &&
+            fixture.getEntity() != this;
     private final Polyline laser = new Polyline();
     private final RotatingLine rotatingLine;
     private final Timer blockHitTimer;
@@ -69,10 +71,10 @@ public class LaserBeamer extends Entity implements Damager {
         switchTimer = new Timer(SWITCH_TIME, true);
         blockHitTimer = new Timer(BLOCK_HIT);
         rotatingLine = new RotatingLine(spawn, RADIUS * PPM, SPEED * PPM, INIT_DEGREES);
+        rotatingLine.setPos(new Vector2(spawn.x, spawn.y + PPM / 16f));
         float[] v = rotatingLine.getPolyline().getVertices();
         laser.setVertices(copyOf(v, v.length));
         laser.setOrigin(spawn.x, spawn.y);
-        blockContactPoints = new PriorityQueue<>((p1, p2) -> Float.compare(p1.dst2(spawn), p2.dst2(spawn)));
         addComponent(bodyComponent(spawn));
         addComponent(updatableComponent());
         addComponent(linesComponent());
@@ -83,11 +85,6 @@ public class LaserBeamer extends Entity implements Damager {
     private BodyComponent bodyComponent(Vector2 spawn) {
         BodyComponent bodyComponent = new BodyComponent(ABSTRACT);
         bodyComponent.setPosition(spawn);
-        // rotating line laser
-        Fixture laserFixture = new Fixture(this, rotatingLine.getPolyline(), LASER);
-        laserFixture.setOffset(0f, PPM / 16f);
-        laserFixture.putUserData(COLLECTION, blockContactPoints);
-        bodyComponent.addFixture(laserFixture);
         // damager laser
         bodyComponent.addFixture(new Fixture(this, laser, DAMAGER));
         // shield
@@ -149,20 +146,18 @@ public class LaserBeamer extends Entity implements Damager {
             if (blockHitIndex > 2) {
                 blockHitIndex = 0;
             }
-            // block contact
+            // block hit, the laser stops at the first block along the rotating line
             Vector2 origin = rotatingLine.getPos();
             Vector2 endPos = rotatingLine.getEndPoint();
-            Vector2 closestBlockHit = blockContactPoints.peek();
-            if (closestBlockHit != null) {
-                endPos.set(closestBlockHit);
+            if (gameContext.getSystem(WorldSystem.class).raycast(origin, endPos, blockFilter, raycastHit)) {
+                endPos.set(raycastHit.getPoint());
                 blockHit = new Circle();
-                blockHit.setPosition(closestBlockHit.x, closestBlockHit.y);
+                blockHit.setPosition(endPos.x, endPos.y);
                 blockHit.setRadius(blockHitRadii.get(blockHitIndex));
             } else {
                 blockHit = null;
             }
             laser.setVertices(new float[]{origin.x, origin.y, endPos.x, endPos.y});
-            blockContactPoints.clear();
             // rotation
             switchTimer.update(delta);
             if (!switchTimer.isFinished()) {
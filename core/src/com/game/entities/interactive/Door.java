@@ -27,7 +27,6 @@ import java.util.Collection;
 import java.util.Map;
 import java.util.function.Supplier;
 
-import static com.game.GlobalKeys.NEXT;
 import static com.game.ViewVals.PPM;
 import static com.game.assets.SoundAsset.*;
 import static com.game.assets.TextureAsset.*;
@@ -66,6 +65,7 @@ public class Door extends Entity implements Resettable {
         this.megamanSupplier = megamanSupplier;
         this.gateBounds = gateObj.getRectangle();
         this.nextGameRoom = gateObj.getProperties().get("next", String.class);
+        gameContext.addMessageListener(this, PLAYER_SPAWN, END_GAME_ROOM_TRANS);
         addComponent(updatableComponent());
         String color = gateObj.getProperties().get("color", String.class);
         addComponent(animationComponent(color));
@@ -104,7 +104,7 @@ public class Door extends Entity implements Resettable {
             if (overlappingGate()) {
                 timer.reset();
                 state = OPENING;
-                gameContext.sendMessage(new Message(GATE_INIT_OPENING));
+                gameContext.sendMessage(Message.of(GATE_INIT_OPENING));
                 getComponent(SoundComponent.class).requestSound(BOSS_DOOR);
             }
         };
@@ -115,8 +115,8 @@ public class Door extends Entity implements Resettable {
             if (timer.isFinished()) {
                 timer.reset();
                 state = OPEN;
-                gameContext.sendMessage(new Message(GATE_FINISH_OPENING));
-                gameContext.sendMessage(new Message(NEXT_GAME_ROOM_REQUEST, NEXT, nextGameRoom));
+                gameContext.sendMessage(Message.of(GATE_FINISH_OPENING));
+                gameContext.sendMessage(Message.of(NEXT_GAME_ROOM_REQUEST, nextGameRoom));
             }
         };
         updatableComponent.addUpdatable(openingUpdatable, () -> state == OPENING);
@@ -125,7 +125,7 @@ public class Door extends Entity implements Resettable {
             if (gameRoomTransFinished) {
                 gameRoomTransFinished = false;
                 state = CLOSING;
-                gameContext.sendMessage(new Message(GATE_INIT_CLOSING));
+                gameContext.sendMessage(Message.of(GATE_INIT_CLOSING));
                 getComponent(SoundComponent.class).requestSound(BOSS_DOOR);
             }
         };
@@ -136,7 +136,7 @@ public class Door extends Entity implements Resettable {
             if (timer.isFinished()) {
                 timer.reset();
                 state = CLOSED;
-                gameContext.sendMessage(new Message(GATE_FINISH_CLOSING));
+                gameContext.sendMessage(Message.of(GATE_FINISH_CLOSING));
             }
         };
         updatableComponent.addUpdatable(closingUpdatable, () -> state == CLOSING);
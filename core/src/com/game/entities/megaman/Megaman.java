@@ -39,6 +39,8 @@ import com.game.utils.objects.Wrapper;
 import com.game.weapons.WeaponDef;
 import com.game.world.BodyComponent;
 import com.game.world.Fixture;
+import com.game.world.WorldSystem;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -137,6 +139,9 @@ public class Megaman extends Entity implements Damageable, Faceable, CameraFocus
     private static MegamanWeaponDefs megamanWeaponDefs;
 
     private final MegamanStats megamanStats;
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private final Rectangle focusBox = new Rectangle();
 
     private final Timer damageTimer = new Timer(DAMAGE_DURATION, true);
     private final Timer airDashTimer = new Timer(MAX_AIR_DASH_TIME);
@@ -220,6 +225,20 @@ public class Megaman extends Entity implements Damageable, Faceable, CameraFocus
         return bottomCenterPoint(getComponent(BodyComponent.class).getCollisionBox());
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The render focus is the bottom center pairOf the collision box interpolated with the same alpha as the sprites,
+     * see {@link WorldSystem#getInterpolationAlpha()}, so that the camera does not judder against Megaman's sprite.
+     *
+     * @return the render focus
+     */
+    @Override
+    public Vector2 getRenderFocus() {
+        float alpha = gameContext.getSystem(WorldSystem.class).getInterpolationAlpha();
+        return bottomCenterPoint(getComponent(BodyComponent.class).getInterpolatedCollisionBox(alpha, focusBox));
+    }
+
     @Override
     public boolean isInvincible() {
         return !damageTimer.isFinished() || !damageRecoveryTimer.isFinished();
@@ -318,9 +337,9 @@ public class Megaman extends Entity implements Damageable, Faceable, CameraFocus
                 add(new Vector2(0f, -EXPLOSION_ORB_SPEED));
                 add(new Vector2(-EXPLOSION_ORB_SPEED, -EXPLOSION_ORB_SPEED));
             }};
-            trajectories.forEach(trajectory -> gameContext.addEntity(new ExplosionOrb(
-                    gameContext, getComponent(BodyComponent.class).getCenter(), trajectory)));
-            gameContext.sendMessage(new Message(PLAYER_DEAD));
+            trajectories.forEach(trajectory -> gameContext.addEntity(gameContext.obtainEntity(ExplosionOrb.class)
+                    .init(getComponent(BodyComponent.class).getCenter(), trajectory)));
+            gameContext.sendMessage(Message.of(PLAYER_DEAD));
         });
     }
 
@@ -77,11 +77,11 @@ public class MegamanWeaponDefs {
             Integer chargeStatus = (Integer) m.get(CHARGE_STATUS);
             Vector2 trajectory = new Vector2(BULLET_VEL * (isFacing(F_LEFT) ? -PPM : PPM), 0f);
             if (2 == chargeStatus || 1 == chargeStatus) {
-                return List.of(new ChargedShot(gameContext, megaman, trajectory,
+                return List.of(gameContext.obtainEntity(ChargedShot.class).init(megaman, trajectory,
                         spawn.get(), getFacing(), chargeStatus == 2));
             }
             if (0 == chargeStatus) {
-                return List.of(new Bullet(gameContext, megaman, trajectory, spawn.get()));
+                return List.of(gameContext.obtainEntity(Bullet.class).init(megaman, trajectory, spawn.get()));
             }
             throw new IllegalStateException();
         }, .1f, m -> {
@@ -101,7 +101,7 @@ public class MegamanWeaponDefs {
                 // TODO: return normal fireball
             }
              */
-            return List.of(new Fireball(gameContext, megaman, impulse, spawn.get()));
+            return List.of(gameContext.obtainEntity(Fireball.class).init(megaman, impulse, spawn.get()));
         }, .75f, m -> getComponent(SoundComponent.class).requestSound(CRASH_BOMBER_SOUND)));
     }
 
@@ -7,6 +7,7 @@ import com.game.cull.CullOutOfCamBoundsComponent;
 import com.game.damage.Damageable;
 import com.game.damage.Damager;
 import com.game.entities.contracts.Hitter;
+import com.game.entities.contracts.Poolable;
 import com.game.sounds.SoundComponent;
 import com.game.world.BodyComponent;
 import lombok.Getter;
@@ -18,10 +19,14 @@ import static com.game.utils.UtilMethods.*;
 
 @Getter
 @Setter
-public abstract class AbstractProjectile extends Entity implements Hitter, Damager {
+public abstract class AbstractProjectile extends Entity implements Hitter, Damager, Poolable {
 
     protected Entity owner;
 
+    public AbstractProjectile(GameContext2d gameContext, float cullDuration) {
+        this(gameContext, null, cullDuration);
+    }
+
     public AbstractProjectile(GameContext2d gameContext, Entity owner, float cullDuration) {
         super(gameContext);
         this.owner = owner;
@@ -30,6 +35,16 @@ public abstract class AbstractProjectile extends Entity implements Hitter, Damag
         addComponent(cullOutOfCamBoundsComponent(cullDuration));
     }
 
+    @Override
+    public void reset() {
+        owner = null;
+        getComponent(CullOutOfCamBoundsComponent.class).resetCullTimer();
+        BodyComponent bodyComponent = getComponent(BodyComponent.class);
+        if (bodyComponent != null) {
+            bodyComponent.resetMotionState();
+        }
+    }
+
     @Override
     public boolean canDamage(Damageable damageable) {
         return owner == null || !owner.equals(damageable);
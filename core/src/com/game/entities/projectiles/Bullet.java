@@ -40,15 +40,33 @@ public class Bullet extends AbstractProjectile {
 
     private static final float CLAMP = 10f;
 
-    public Bullet(GameContext2d gameContext, Entity owner, Vector2 trajectory, Vector2 spawn) {
-        super(gameContext, owner, .15f);
+    public Bullet(GameContext2d gameContext) {
+        super(gameContext, .15f);
         addComponent(new SoundComponent());
         addComponent(spriteComponent());
-        addComponent(bodyComponent(spawn, trajectory));
+        addComponent(bodyComponent());
+    }
+
+    /**
+     * Initializes this bullet with its spawn parameters after it is obtained from its pool.
+     *
+     * @param owner      the owner
+     * @param trajectory the trajectory
+     * @param spawn      the spawn
+     * @return this bullet
+     */
+    public Bullet init(Entity owner, Vector2 trajectory, Vector2 spawn) {
+        setOwner(owner);
+        BodyComponent bodyComponent = getComponent(BodyComponent.class);
+        bodyComponent.setCenter(spawn.x, spawn.y);
+        bodyComponent.setVelocity(trajectory);
+        bodyComponent.setPriorCollisionBoxToCurrent();
+        return this;
     }
 
     public void disintegrate() {
-        gameContext.addEntity(new Disintegration(gameContext, getComponent(BodyComponent.class).getCenter()));
+        gameContext.addEntity(gameContext.obtainEntity(Disintegration.class)
+                .init(getComponent(BodyComponent.class).getCenter()));
         if (isInGameCamBounds()) {
             getComponent(SoundComponent.class).requestSound(THUMP_SOUND);
         }
@@ -99,13 +117,12 @@ public class Bullet extends AbstractProjectile {
         });
     }
 
-    private BodyComponent bodyComponent(Vector2 spawn, Vector2 trajectory) {
+    private BodyComponent bodyComponent() {
         BodyComponent bodyComponent = new BodyComponent(DYNAMIC);
         bodyComponent.setClamp(CLAMP * PPM, CLAMP * PPM);
         bodyComponent.setSize(.1f * PPM, .1f * PPM);
-        bodyComponent.setCenter(spawn.x, spawn.y);
-        bodyComponent.setVelocity(trajectory);
         bodyComponent.setAffectedByResistance(false);
+        bodyComponent.setBullet(true);
         Rectangle model = new Rectangle(0f, 0f, .1f * PPM, .1f * PPM);
         // projectile
         Fixture projectile = new Fixture(this, new Rectangle(model), HITTER);
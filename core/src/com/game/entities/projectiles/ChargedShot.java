@@ -20,6 +20,7 @@ import com.game.utils.enums.Position;
 import com.game.utils.objects.Wrapper;
 import com.game.world.BodyComponent;
 import com.game.world.Fixture;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -36,26 +37,69 @@ import static com.game.world.FixtureType.*;
 public class ChargedShot extends AbstractProjectile implements Faceable {
 
     private final Vector2 trajectory = new Vector2();
-    private final boolean fullyCharged;
 
+    private boolean fullyCharged;
     private Facing facing;
 
-    public ChargedShot(GameContext2d gameContext, Entity owner, Vector2 trajectory, Vector2 spawn,
-                       Facing facing, boolean fullyCharged) {
-        super(gameContext, owner, .15f);
-        this.fullyCharged = fullyCharged;
-        this.trajectory.set(trajectory);
-        setFacing(facing);
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private TimedAnimation chargedAnimation;
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private TimedAnimation halfChargedAnimation;
+
+    public ChargedShot(GameContext2d gameContext) {
+        super(gameContext, .15f);
         addComponent(animationComponent());
-        addComponent(bodyComponent(spawn));
+        addComponent(bodyComponent());
         addComponent(spriteComponent());
     }
 
+    /**
+     * Initializes this charged shot with its spawn parameters after it is obtained from its pool.
+     *
+     * @param owner        the owner
+     * @param trajectory   the trajectory
+     * @param spawn        the spawn
+     * @param facing       the facing
+     * @param fullyCharged if fully charged
+     * @return this charged shot
+     */
+    public ChargedShot init(Entity owner, Vector2 trajectory, Vector2 spawn, Facing facing, boolean fullyCharged) {
+        setOwner(owner);
+        setFacing(facing);
+        this.fullyCharged = fullyCharged;
+        this.trajectory.set(trajectory);
+        float size = fullyCharged ? PPM : .5f * PPM;
+        BodyComponent bodyComponent = getComponent(BodyComponent.class);
+        bodyComponent.setSize(size, size);
+        for (Fixture fixture : bodyComponent.getFixtures()) {
+            ((Rectangle) fixture.getFixtureShape()).setSize(size, size);
+        }
+        bodyComponent.setCenter(spawn.x, spawn.y);
+        bodyComponent.setPriorCollisionBoxToCurrent();
+        float spriteSize = fullyCharged ? 1.75f * PPM : 1.25f * PPM;
+        getComponent(SpriteComponent.class).getSprite().setSize(spriteSize, spriteSize);
+        return this;
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        trajectory.setZero();
+        chargedAnimation.reset();
+        halfChargedAnimation.reset();
+    }
+
     @Override
     public void onDamageInflictedTo(Damageable damageable) {
         setDead(true);
-        gameContext.addEntity(new ChargedShotDisintegration(
-                gameContext, getComponent(BodyComponent.class).getCenter(), isFacing(F_LEFT), fullyCharged));
+        disintegrate();
+    }
+
+    private void disintegrate() {
+        gameContext.addEntity(gameContext.obtainEntity(ChargedShotDisintegration.class)
+                .init(getComponent(BodyComponent.class).getCenter(), isFacing(F_LEFT), fullyCharged));
     }
 
     @Override
@@ -66,8 +110,7 @@ public class ChargedShot extends AbstractProjectile implements Faceable {
         }
         if (fixture.isAnyFixtureType(BLOCK, DAMAGEABLE)) {
             setDead(true);
-            gameContext.addEntity(new ChargedShotDisintegration(
-                    gameContext, getComponent(BodyComponent.class).getCenter(), isFacing(F_LEFT), fullyCharged));
+            disintegrate();
         } else if (fixture.isFixtureType(SHIELD)) {
             setOwner(fixture.getEntity());
             swapFacing();
@@ -83,24 +126,18 @@ public class ChargedShot extends AbstractProjectile implements Faceable {
     }
 
     private AnimationComponent animationComponent() {
-        TextureRegion textureRegion;
-        if (fullyCharged) {
-            textureRegion = gameContext.getAsset(MEGAMAN_CHARGED_SHOT.getSrc(), TextureAtlas.class)
-                    .findRegion("MegamanChargedShot");
-        } else {
-            textureRegion = gameContext.getAsset(MEGAMAN_HALF_CHARGED_SHOT.getSrc(), TextureAtlas.class)
-                    .findRegion("Shoot");
-        }
-        return new AnimationComponent(new TimedAnimation(textureRegion, 2, .05f));
+        TextureRegion chargedRegion = gameContext.getAsset(MEGAMAN_CHARGED_SHOT.getSrc(), TextureAtlas.class)
+                .findRegion("MegamanChargedShot");
+        TextureRegion halfChargedRegion = gameContext.getAsset(MEGAMAN_HALF_CHARGED_SHOT.getSrc(), TextureAtlas.class)
+                .findRegion("Shoot");
+        chargedAnimation = new TimedAnimation(chargedRegion, 2, .05f);
+        halfChargedAnimation = new TimedAnimation(halfChargedRegion, 2, .05f);
+        return new AnimationComponent(() -> fullyCharged ? "Charged" : "HalfCharged",
+                key -> key.equals("Charged") ? chargedAnimation : halfChargedAnimation);
     }
 
     private SpriteComponent spriteComponent() {
         Sprite sprite = new Sprite();
-        if (fullyCharged) {
-            sprite.setSize(PPM * 1.75f, PPM * 1.75f);
-        } else {
-            sprite.setSize(PPM * 1.25f, PPM * 1.25f);
-        }
         return new SpriteComponent(sprite, new SpriteProcessor() {
 
             @Override
@@ -123,20 +160,14 @@ public class ChargedShot extends AbstractProjectile implements Faceable {
         });
     }
 
-    private BodyComponent bodyComponent(Vector2 spawn) {
+    private BodyComponent bodyComponent() {
         BodyComponent bodyComponent = new BodyComponent(DYNAMIC);
         bodyComponent.setPreProcess(delta -> bodyComponent.setVelocity(trajectory));
-        if (fullyCharged) {
-            bodyComponent.setSize(PPM, PPM);
-        } else {
-            bodyComponent.setSize(.5f * PPM, .5f * PPM);
-        }
-        bodyComponent.setCenter(spawn.x, spawn.y);
-        // model
-        Rectangle model = new Rectangle(0f, 0f, fullyCharged ? PPM : .5f * PPM, fullyCharged ? PPM : .5f * PPM);
-        Fixture projectile = new Fixture(this, new Rectangle(model), HITTER);
+        bodyComponent.setBullet(true);
+        // fixtures are sized on init
+        Fixture projectile = new Fixture(this, new Rectangle(), HITTER);
         bodyComponent.addFixture(projectile);
-        Fixture damageBox = new Fixture(this, new Rectangle(model), DAMAGER);
+        Fixture damageBox = new Fixture(this, new Rectangle(), DAMAGER);
         bodyComponent.addFixture(damageBox);
         return bodyComponent;
     }
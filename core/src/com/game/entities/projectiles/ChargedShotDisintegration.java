@@ -10,6 +10,7 @@ import com.game.GameContext2d;
 import com.game.animations.AnimationComponent;
 import com.game.animations.TimedAnimation;
 import com.game.damage.Damager;
+import com.game.entities.contracts.Poolable;
 import com.game.sounds.SoundComponent;
 import com.game.sprites.SpriteProcessor;
 import com.game.sprites.SpriteComponent;
@@ -26,29 +27,58 @@ import static com.game.ViewVals.PPM;
 import static com.game.world.BodyType.*;
 import static com.game.world.FixtureType.*;
 
-public class ChargedShotDisintegration extends Entity implements Damager {
+public class ChargedShotDisintegration extends Entity implements Damager, Poolable {
 
     private static final float FULLY_CHARGED_DURATION = .75f;
     private static final float HALFWAY_CHARGED_DURATION = .15f;
 
-    private final Timer timer;
+    private final Timer timer = new Timer(HALFWAY_CHARGED_DURATION);
     private final Timer soundTimer = new Timer(.15f);
 
     @Getter
-    private final boolean fullyCharged;
+    private boolean fullyCharged;
+    private boolean isLeft;
 
-    public ChargedShotDisintegration(GameContext2d gameContext, Vector2 center,
-                                     boolean isLeft, boolean fullyCharged) {
+    private TimedAnimation chargedAnimation;
+    private TimedAnimation halfChargedAnimation;
+
+    public ChargedShotDisintegration(GameContext2d gameContext) {
         super(gameContext);
-        this.fullyCharged = fullyCharged;
-        timer = new Timer(fullyCharged ? FULLY_CHARGED_DURATION : HALFWAY_CHARGED_DURATION);
         addComponent(new SoundComponent());
         addComponent(updatableComponent());
-        addComponent(bodyComponent(center));
-        addComponent(spriteComponent(center, isLeft));
+        addComponent(bodyComponent());
+        addComponent(spriteComponent());
         addComponent(animationComponent(gameContext));
     }
 
+    /**
+     * Initializes this disintegration with its spawn parameters after it is obtained from its pool.
+     *
+     * @param center       the center
+     * @param isLeft       if facing left
+     * @param fullyCharged if fully charged
+     * @return this disintegration
+     */
+    public ChargedShotDisintegration init(Vector2 center, boolean isLeft, boolean fullyCharged) {
+        this.isLeft = isLeft;
+        this.fullyCharged = fullyCharged;
+        timer.setDuration(fullyCharged ? FULLY_CHARGED_DURATION : HALFWAY_CHARGED_DURATION);
+        getComponent(BodyComponent.class).setCenter(center);
+        Sprite sprite = getComponent(SpriteComponent.class).getSprite();
+        float spriteSize = fullyCharged ? 1.75f * PPM : 1.25f * PPM;
+        sprite.setSize(spriteSize, spriteSize);
+        sprite.setCenter(center.x, center.y);
+        return this;
+    }
+
+    @Override
+    public void reset() {
+        timer.reset();
+        soundTimer.reset();
+        chargedAnimation.reset();
+        halfChargedAnimation.reset();
+    }
+
     private UpdatableComponent updatableComponent() {
         return new UpdatableComponent(delta -> {
             soundTimer.update(delta);
@@ -65,22 +95,15 @@ public class ChargedShotDisintegration extends Entity implements Damager {
         });
     }
 
-    private BodyComponent bodyComponent(Vector2 center) {
+    private BodyComponent bodyComponent() {
         BodyComponent bodyComponent = new BodyComponent(ABSTRACT);
-        bodyComponent.setCenter(center);
         Fixture damagerBox = new Fixture(this, new Rectangle(0f, 0f, PPM, PPM), DAMAGER);
         bodyComponent.addFixture(damagerBox);
         return bodyComponent;
     }
 
-    private SpriteComponent spriteComponent(Vector2 center, boolean isLeft) {
+    private SpriteComponent spriteComponent() {
         Sprite sprite = new Sprite();
-        if (fullyCharged) {
-            sprite.setSize(1.75f * PPM, 1.75f * PPM);
-        } else {
-            sprite.setSize(1.25f * PPM, 1.25f * PPM);
-        }
-        sprite.setCenter(center.x, center.y);
         return new SpriteComponent(sprite, new SpriteProcessor() {
 
             @Override
@@ -97,15 +120,14 @@ public class ChargedShotDisintegration extends Entity implements Damager {
     }
 
     private AnimationComponent animationComponent(GameContext2d gameContext) {
-        TextureRegion textureRegion;
-        if (fullyCharged) {
-            textureRegion = gameContext.getAsset(MEGAMAN_CHARGED_SHOT.getSrc(), TextureAtlas.class)
-                    .findRegion("MegamanChargedShotCollision");
-        } else {
-            textureRegion = gameContext.getAsset(MEGAMAN_HALF_CHARGED_SHOT.getSrc(), TextureAtlas.class)
-                    .findRegion("Collide");
-        }
-        return new AnimationComponent(new TimedAnimation(textureRegion, 3, .05f));
+        TextureRegion chargedRegion = gameContext.getAsset(MEGAMAN_CHARGED_SHOT.getSrc(), TextureAtlas.class)
+                .findRegion("MegamanChargedShotCollision");
+        TextureRegion halfChargedRegion = gameContext.getAsset(MEGAMAN_HALF_CHARGED_SHOT.getSrc(), TextureAtlas.class)
+                .findRegion("Collide");
+        chargedAnimation = new TimedAnimation(chargedRegion, 3, .05f);
+        halfChargedAnimation = new TimedAnimation(halfChargedRegion, 3, .05f);
+        return new AnimationComponent(() -> fullyCharged ? "Charged" : "HalfCharged",
+                key -> key.equals("Charged") ? chargedAnimation : halfChargedAnimation);
     }
 
 }
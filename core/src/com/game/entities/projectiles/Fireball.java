@@ -18,6 +18,7 @@ import com.game.utils.objects.Wrapper;
 import com.game.world.BodyComponent;
 import com.game.world.BodyType;
 import com.game.world.Fixture;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -37,13 +38,45 @@ public class Fireball extends AbstractProjectile {
 
     private boolean isLanded;
     private boolean wasLanded;
+    private float rotation;
 
-    public Fireball(GameContext2d gameContext, Entity owner, Vector2 impulse, Vector2 spawn) {
-        super(gameContext, owner, .25f);
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private Map<String, TimedAnimation> timedAnimations;
+
+    public Fireball(GameContext2d gameContext) {
+        super(gameContext, .25f);
         addComponent(spriteComponent());
         addComponent(animationComponent());
         addComponent(updatableComponent());
-        addComponent(bodyComponent(spawn, impulse));
+        addComponent(bodyComponent());
+    }
+
+    /**
+     * Initializes this fireball with its spawn parameters after it is obtained from its pool.
+     *
+     * @param owner   the owner
+     * @param impulse the impulse
+     * @param spawn   the spawn
+     * @return this fireball
+     */
+    public Fireball init(Entity owner, Vector2 impulse, Vector2 spawn) {
+        setOwner(owner);
+        BodyComponent bodyComponent = getComponent(BodyComponent.class);
+        bodyComponent.translateVelocity(impulse);
+        bodyComponent.setCenter(spawn.x, spawn.y);
+        bodyComponent.setPriorCollisionBoxToCurrent();
+        return this;
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        burnTimer.reset();
+        isLanded = false;
+        wasLanded = false;
+        rotation = 0f;
+        timedAnimations.values().forEach(TimedAnimation::reset);
     }
 
     @Override
@@ -71,8 +104,6 @@ public class Fireball extends AbstractProjectile {
         sprite.setSize(1.25f * PPM, 1.25f * PPM);
         return new SpriteComponent(sprite, new SpriteProcessor() {
 
-            private float rotation = 0f;
-
             @Override
             public void update(Sprite sprite1, float delta) {
                 if (isLanded()) {
@@ -107,23 +138,21 @@ public class Fireball extends AbstractProjectile {
     private AnimationComponent animationComponent() {
         TextureAtlas textureAtlas = gameContext.getAsset(FIRE.getSrc(), TextureAtlas.class);
         Supplier<String> keySupplier = () -> isLanded() ? "Flame" : "Fireball";
-        Map<String, TimedAnimation> timedAnimations = Map.of(
+        timedAnimations = Map.of(
                 "Flame", new TimedAnimation(textureAtlas.findRegion("Flame"), 4, .1f),
                 "Fireball", new TimedAnimation(textureAtlas.findRegion("Fireball")));
         return new AnimationComponent(keySupplier, timedAnimations::get);
     }
 
-    private BodyComponent bodyComponent(Vector2 spawn, Vector2 impulse) {
+    private BodyComponent bodyComponent() {
         BodyComponent bodyComponent = new BodyComponent(BodyType.DYNAMIC);
         bodyComponent.setPreProcess(delta -> {
             if (isLanded()) {
                 bodyComponent.setVelocityX(0f);
             }
         });
-        bodyComponent.translateVelocity(impulse);
         bodyComponent.setGravity(-PPM * .35f);
         bodyComponent.setSize(PPM, PPM);
-        bodyComponent.setCenter(spawn.x, spawn.y);
         Fixture projectile = new Fixture(this, new Rectangle(0f, 0f, .85f * PPM, .85f * PPM), HITTER);
         projectile.setOffset(0f, -.15f * PPM);
         bodyComponent.addFixture(projectile);
@@ -34,8 +34,8 @@ public class Graph {
         if (shape instanceof Rectangle) {
             bounds = (Rectangle) shape;
         } else if (shape instanceof Circle circle) {
-            bounds = new Rectangle(circle.x - circle.radius, circle.y - circle.radius,
-                    circle.x + circle.radius, circle.y + circle.radius);
+            bounds = new Rectangle(circle.x - circle.radius, circle.y - circle.radius, circle.radius * 2f,
+                    circle.radius * 2f);
         } else if (shape instanceof Triangle triangle) {
             bounds = triangle.getBoundingRectangle();
         } else if (shape instanceof Polygon polygon) {
@@ -82,7 +82,7 @@ public class Graph {
         Set<Node> neighbors = new HashSet<>();
         for (int i = x - 1; i <= x + 1; i++) {
             for (int j = y - 1; j <= y + 1; j++) {
-                if ((i == x && j == y) || isOutOfBounds(i, y)) {
+                if ((i == x && j == y) || isOutOfBounds(i, j)) {
                     continue;
                 }
                 if (!allowDiagonal && (i == x - 1 || i == x + 1) && (j == y - 1 || j == y + 1)) {
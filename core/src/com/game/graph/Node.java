@@ -5,7 +5,7 @@ import com.badlogic.gdx.math.Vector2;
 import lombok.Getter;
 
 import java.util.Collection;
-import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.Set;
 
 import static com.game.utils.UtilMethods.*;
@@ -15,7 +15,7 @@ public class Node extends Coordinate {
 
     private final Graph graph;
     private final Rectangle bounds = new Rectangle();
-    private final Set<Object> objects = new HashSet<>();
+    private final Set<Object> objects = new LinkedHashSet<>();
 
     public Node(int x, int y, Graph graph, Rectangle bounds) {
         super(x, y);
@@ -3,5 +3,18 @@ package com.game.levels;
 import com.badlogic.gdx.math.Vector2;
 
 public interface CameraFocusable {
+
     Vector2 getFocus();
+
+    /**
+     * Returns the point the camera is moved towards. Unlike {@link #getFocus()}, which game logic such as room
+     * membership reads, this may be a render-only position, e.g. one interpolated between world steps. Defaults to
+     * {@link #getFocus()}.
+     *
+     * @return the render focus
+     */
+    default Vector2 getRenderFocus() {
+        return getFocus();
+    }
+
 }
@@ -84,7 +84,7 @@ public class LevelCameraManager implements Updatable {
             this.focusable = focusable;
             reset = true;
         }
-        Vector2 pos = focusable.getFocus();
+        Vector2 pos = focusable.getRenderFocus();
         camera.position.x = pos.x;
         camera.position.y = pos.y;
     }
@@ -272,7 +272,7 @@ public class LevelCameraManager implements Updatable {
 
     private void setCamToFocusable(float delta) {
         // Vector2 pos = focusable.getFocus();
-        Vector2 pos = interpolate(toVec2(camera.position), focusable.getFocus(), delta * 10f);
+        Vector2 pos = interpolate(toVec2(camera.position), focusable.getRenderFocus(), delta * 10f);
         camera.position.x = pos.x;
         camera.position.y = pos.y;
     }
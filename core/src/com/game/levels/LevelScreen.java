@@ -43,7 +43,6 @@ import com.game.world.*;
 import java.util.ArrayList;
 import java.util.List;
 
-import static com.game.GlobalKeys.NEXT;
 import static com.game.assets.SoundAsset.CURSOR_MOVE_BLOOP_SOUND;
 import static com.game.controllers.ControllerButton.START;
 import static com.game.messages.MessageType.*;
@@ -55,6 +54,7 @@ import static com.game.assets.SoundAsset.MEGAMAN_DEFEAT_SOUND;
 import static com.game.assets.TextureAsset.BITS;
 import static com.game.ViewVals.*;
 import static com.game.levels.LevelLayers.*;
+import static com.game.world.WorldVals.FIXED_TIME_STEP;
 
 import static com.game.utils.UtilMethods.*;
 import static com.game.utils.UtilMethods.bottomCenterPoint;
@@ -91,7 +91,7 @@ public class LevelScreen extends ScreenAdapter implements MessageListener {
     public void show() {
         DebugLogger.getInstance().info("Entities size at level screen show init: " + gameContext.getEntities().size());
         // init
-        gameContext.addMessageListener(this);
+        gameContext.addMessageListener(this, PLAYER_DEAD, GATE_INIT_OPENING, NEXT_GAME_ROOM_REQUEST, ENTER_BOSS_ROOM);
         gameContext.setLevelStatus(UNPAUSED);
         gameContext.setDoUpdateController(true);
         gameContext.getSystems().forEach(system -> system.setOn(true));
@@ -106,8 +106,8 @@ public class LevelScreen extends ScreenAdapter implements MessageListener {
         backgrounds = new ArrayList<>();
         levelMap.getRectObjsOfLayer(BACKGROUNDS).forEach(backgroundObj ->
             BackgroundFactory.create(gameContext, backgrounds, backgroundObj));
-        // set world graph and air resistance
-        gameContext.getSystem(WorldSystem.class).setWorldGraph(levelMap);
+        // set world bounds and air resistance
+        gameContext.getSystem(WorldSystem.class).setWorldBounds(levelMap);
         if (levelMap.hasMapProp("airResistance")) {
             String airResistStr = levelMap.getMapProp("airResistance", String.class);
             String[] airResistStrVals = airResistStr.split(",");
@@ -115,6 +115,12 @@ public class LevelScreen extends ScreenAdapter implements MessageListener {
             float airResistY = Float.parseFloat(airResistStrVals[1]);
             gameContext.getSystem(WorldSystem.class).setAirResistance(new Vector2(airResistX, airResistY));
         }
+        // set fixed time step, falling back to the default so that a level's step rate does not carry over to the next
+        float fixedTimeStep = FIXED_TIME_STEP;
+        if (levelMap.hasMapProp("fixedTimeStep")) {
+            fixedTimeStep = parseFixedTimeStep(levelMap.getMapProp("fixedTimeStep", String.class));
+        }
+        gameContext.getSystem(WorldSystem.class).setFixedTimeStep(fixedTimeStep);
         // set graph for graph and pathfinding systems
         Graph levelGraph = new Graph(new Vector2(PPM, PPM), levelMap.getWidthInTiles(), levelMap.getHeightInTiles());
         gameContext.getSystem(PathfindingSystem.class).setGraph(levelGraph);
@@ -139,8 +145,9 @@ public class LevelScreen extends ScreenAdapter implements MessageListener {
         // doors
         levelMap.getRectObjsOfLayer(DOORS).forEach(doorObj -> gameContext.addEntity(
                 new Door(gameContext, doorObj, () -> megaman)));
-        // blocks
-        levelMap.getRectObjsOfLayer(BLOCKS).forEach(blockObj -> BlockFactory.create(gameContext, blockObj));
+        // blocks, merging plain static blocks unless the level opts out
+        boolean mergeBlocks = !levelMap.hasMapProp("mergeBlocks") || levelMap.getMapProp("mergeBlocks", Boolean.class);
+        BlockFactory.createAll(gameContext, levelMap.getRectObjsOfLayer(BLOCKS), mergeBlocks);
         // death sensors
         levelMap.getRectObjsOfLayer(DEATH_SENSORS).forEach(deathSensorObj ->
                 gameContext.addEntity(new DeathSensor(gameContext, deathSensorObj.getRectangle())));
@@ -185,7 +192,7 @@ public class LevelScreen extends ScreenAdapter implements MessageListener {
                 gameContext.getSystem(BehaviorSystem.class).setOn(paused);
                 gameContext.getSystem(WorldSystem.class).setOn(paused);
             }
-            gameContext.sendMessage(new Message(paused ? LEVEL_UNPAUSED : LEVEL_PAUSED));
+            gameContext.sendMessage(Message.of(paused ? LEVEL_UNPAUSED : LEVEL_PAUSED));
             Sound sound = gameContext.getAsset(CURSOR_MOVE_BLOOP_SOUND.getSrc(), Sound.class);
             gameContext.playSound(sound);
         } else if (!gameContext.isLevelStatus(PAUSED)) {
@@ -195,7 +202,7 @@ public class LevelScreen extends ScreenAdapter implements MessageListener {
             } else {
                 switch (levelCameraManager.getTransState()) {
                     case BEGIN -> {
-                        gameContext.sendMessage(new Message(BEGIN_GAME_ROOM_TRANS));
+                        gameContext.sendMessage(Message.of(BEGIN_GAME_ROOM_TRANS));
                         gameContext.getSystem(ControllerSystem.class).setOn(false);
                         gameContext.getSystem(TrajectorySystem.class).setOn(false);
                         gameContext.getSystem(UpdatableSystem.class).setOn(false);
@@ -208,7 +215,7 @@ public class LevelScreen extends ScreenAdapter implements MessageListener {
                                 levelCameraManager.getFocusableTransInterpolation());
                     }
                     case CONTINUE -> {
-                        gameContext.sendMessage(new Message(CONTINUE_GAME_ROOM_TRANS));
+                        gameContext.sendMessage(Message.of(CONTINUE_GAME_ROOM_TRANS));
                         gameContext.getSystem(ControllerSystem.class).setOn(false);
                         gameContext.getSystem(TrajectorySystem.class).setOn(false);
                         gameContext.getSystem(UpdatableSystem.class).setOn(false);
@@ -221,7 +228,7 @@ public class LevelScreen extends ScreenAdapter implements MessageListener {
                                 levelCameraManager.getFocusableTransInterpolation());
                     }
                     case END -> {
-                        gameContext.sendMessage(new Message(END_GAME_ROOM_TRANS));
+                        gameContext.sendMessage(Message.of(END_GAME_ROOM_TRANS));
                         gameContext.getSystem(ControllerSystem.class).setOn(true);
                         gameContext.getSystem(TrajectorySystem.class).setOn(true);
                         gameContext.getSystem(UpdatableSystem.class).setOn(true);
@@ -231,7 +238,7 @@ public class LevelScreen extends ScreenAdapter implements MessageListener {
                         RectangleMapObject currentGameRoom = levelCameraManager.getCurrentGameRoom();
                         if (currentGameRoom != null && currentGameRoom.getName() != null &&
                                 currentGameRoom.getName().equals(BOSS_ROOM)) {
-                            gameContext.sendMessage(new Message(ENTER_BOSS_ROOM));
+                            gameContext.sendMessage(Message.of(ENTER_BOSS_ROOM));
                         }
                     }
                 }
@@ -278,7 +285,7 @@ public class LevelScreen extends ScreenAdapter implements MessageListener {
                 gameContext.getSystem(SoundSystem.class).requestToStopAllLoopingSounds();
             }
             case NEXT_GAME_ROOM_REQUEST -> {
-                String nextGameRoom = message.getContent(NEXT, String.class);
+                String nextGameRoom = message.getPayload(String.class);
                 levelCameraManager.transToGameRoomWithName(nextGameRoom);
             }
             case ENTER_BOSS_ROOM -> System.out.println("Enter boss room");
@@ -294,12 +301,25 @@ public class LevelScreen extends ScreenAdapter implements MessageListener {
         gameContext.removeMessageListener(this);
     }
 
+    private static float parseFixedTimeStep(String fixedTimeStepStr) {
+        try {
+            float fixedTimeStep = Float.parseFloat(fixedTimeStepStr);
+            if (Float.isFinite(fixedTimeStep) && fixedTimeStep > 0f) {
+                return fixedTimeStep;
+            }
+        } catch (NumberFormatException ignored) {
+        }
+        DebugLogger.getInstance().info("Invalid fixed time step \"" + fixedTimeStepStr + "\", falling back to " +
+                FIXED_TIME_STEP);
+        return FIXED_TIME_STEP;
+    }
+
     private void spawnMegaman() {
         Vector2 spawnPos = bottomCenterPoint(spawnManager.getCurrentPlayerSpawn());
         megaman = new Megaman(gameContext, spawnPos);
         levelCameraManager.setFocusable(megaman);
         gameContext.addEntity(megaman);
-        gameContext.sendMessage(new Message(PLAYER_SPAWN));
+        gameContext.sendMessage(Message.of(PLAYER_SPAWN));
     }
 
     private void showTestText() {
@@ -1,37 +1,73 @@
 package com.game.messages;
 
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 
-import java.util.*;
+import java.util.EnumMap;
+import java.util.Map;
 
-@RequiredArgsConstructor
+/**
+ * A message pairOf a {@link MessageType} with an optional typed payload. Messages are immutable. Messages without a
+ * payload are shared, one instance per message type, so sending one does not allocate, see {@link #of(MessageType)}.
+ */
 public class Message {
 
+    private static final Map<MessageType, Message> sharedMessages = new EnumMap<>(MessageType.class);
+
+    static {
+        for (MessageType messageType : MessageType.values()) {
+            sharedMessages.put(messageType, new Message(messageType, null));
+        }
+    }
+
     @Getter
     private final MessageType messageType;
-    private final Map<String, Object> content;
+    private final Object payload;
 
-    public Message(MessageType messageType) {
+    private Message(MessageType messageType, Object payload) {
         this.messageType = messageType;
-        this.content = new HashMap<>();
+        this.payload = payload;
     }
 
-    public Message(MessageType messageType, String key, Object object) {
-        this(messageType);
-        content.put(key, object);
+    /**
+     * Returns the shared message without a payload for the message type.
+     *
+     * @param messageType the message type
+     * @return the shared message
+     */
+    public static Message of(MessageType messageType) {
+        return sharedMessages.get(messageType);
     }
 
-    public void putContent(String key, Object o) {
-        content.put(key, o);
+    /**
+     * Returns a message with the payload, or the shared message for the message type if the payload is null.
+     *
+     * @param messageType the message type
+     * @param payload     the payload
+     * @return the message
+     */
+    public static Message of(MessageType messageType, Object payload) {
+        return payload == null ? of(messageType) : new Message(messageType, payload);
     }
 
-    public <T> T getContent(String key, Class<T> tClass) {
-        return tClass.cast(getContent(key));
+    /**
+     * Returns if this message has a payload.
+     *
+     * @return if this message has a payload
+     */
+    public boolean hasPayload() {
+        return payload != null;
     }
 
-    public Object getContent(String key) {
-        return content.get(key);
+    /**
+     * Returns the payload cast to the class, or null if this message has no payload.
+     *
+     * @param tClass the class pairOf the payload
+     * @param <T>    the type pairOf the payload
+     * @return the payload
+     * @throws ClassCastException if the payload is not an instance pairOf the class
+     */
+    public <T> T getPayload(Class<T> tClass) {
+        return tClass.cast(payload);
     }
 
 }
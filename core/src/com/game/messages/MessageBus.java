@@ -0,0 +1,123 @@
+package com.game.messages;
+
+import java.util.*;
+
+/**
+ * Dispatches {@link Message} instances to the {@link MessageListener} instances subscribed to their
+ * {@link MessageType}. Each message type has its own subscriber list, so dispatching a message visits only the
+ * listeners subscribed to its type, in the order they subscribed.
+ * <p>
+ * {@link #send(Message)} dispatches immediately. {@link #post(Message)} queues the message instead, and
+ * {@link #flush()} dispatches queued messages in the order they were posted; posting is thread-safe. Listeners may
+ * subscribe and unsubscribe while a message is being dispatched: a listener that unsubscribes is not called again, and
+ * a listener that subscribes receives only later messages.
+ */
+public class MessageBus {
+
+    private final Map<MessageType, List<MessageListener>> subscribers = new EnumMap<>(MessageType.class);
+    private final Map<MessageListener, Set<MessageType>> subscriptions = new HashMap<>();
+    private final Set<MessageType> dirtyMessageTypes = EnumSet.noneOf(MessageType.class);
+    private final Queue<Message> postedMessages = new ArrayDeque<>();
+
+    private int dispatchDepth;
+
+    public MessageBus() {
+        for (MessageType messageType : MessageType.values()) {
+            subscribers.put(messageType, new ArrayList<>());
+        }
+    }
+
+    /**
+     * Subscribes the listener to the message types. Subscribing to a message type the listener is already subscribed
+     * to does nothing.
+     *
+     * @param messageListener the message listener
+     * @param messageTypes    the message types
+     */
+    public void subscribe(MessageListener messageListener, MessageType... messageTypes) {
+        Set<MessageType> subscription = subscriptions.computeIfAbsent(messageListener,
+                k -> EnumSet.noneOf(MessageType.class));
+        for (MessageType messageType : messageTypes) {
+            if (subscription.add(messageType)) {
+                subscribers.get(messageType).add(messageListener);
+            }
+        }
+    }
+
+    /**
+     * Unsubscribes the listener from all message types.
+     *
+     * @param messageListener the message listener
+     */
+    public void unsubscribe(MessageListener messageListener) {
+        Set<MessageType> subscription = subscriptions.remove(messageListener);
+        if (subscription == null) {
+            return;
+        }
+        for (MessageType messageType : subscription) {
+            List<MessageListener> messageListeners = subscribers.get(messageType);
+            if (dispatchDepth == 0) {
+                messageListeners.remove(messageListener);
+            } else {
+                // null out instead pairOf removing so that dispatches in progress keep their indexes
+                messageListeners.set(messageListeners.indexOf(messageListener), null);
+                dirtyMessageTypes.add(messageType);
+            }
+        }
+    }
+
+    /**
+     * Dispatches the message to the listeners subscribed to its type now.
+     *
+     * @param message the message
+     */
+    public void send(Message message) {
+        List<MessageListener> messageListeners = subscribers.get(message.getMessageType());
+        int size = messageListeners.size();
+        dispatchDepth++;
+        try {
+            for (int i = 0; i < size; i++) {
+                MessageListener messageListener = messageListeners.get(i);
+                if (messageListener != null) {
+                    messageListener.listenToMessage(message);
+                }
+            }
+        } finally {
+            dispatchDepth--;
+        }
+        if (dispatchDepth == 0 && !dirtyMessageTypes.isEmpty()) {
+            for (MessageType messageType : dirtyMessageTypes) {
+                subscribers.get(messageType).removeIf(Objects::isNull);
+            }
+            dirtyMessageTypes.clear();
+        }
+    }
+
+    /**
+     * Queues the message to be dispatched on the next {@link #flush()}.
+     *
+     * @param message the message
+     */
+    public void post(Message message) {
+        synchronized (postedMessages) {
+            postedMessages.add(message);
+        }
+    }
+
+    /**
+     * Dispatches queued messages until the queue is empty, including messages posted by listeners during the flush.
+     */
+    public void flush() {
+        while (true) {
+            Message message;
+            synchronized (postedMessages) {
+                message = postedMessages.poll();
+            }
+            if (message == null) {
+                return;
+            }
+            send(message);
+        }
+    }
+
+}
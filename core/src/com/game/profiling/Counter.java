@@ -0,0 +1,57 @@
+package com.game.profiling;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+
+/**
+ * Named count registered with a {@link MetricsRegistry}. The count is added to during a frame, and
+ * {@link MetricsRegistry#endFrame()} moves it into {@link #getLastFrame()} and {@link #getTotal()} and starts the next
+ * frame at zero.
+ */
+@Getter
+public class Counter {
+
+    private final String name;
+
+    private long lastFrame;
+    private long total;
+    private long max;
+
+    @Getter(AccessLevel.NONE)
+    private long current;
+
+    Counter(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Adds one to the count pairOf this frame.
+     */
+    public void increment() {
+        current++;
+    }
+
+    /**
+     * Adds the amount to the count pairOf this frame.
+     *
+     * @param amount the amount
+     */
+    public void add(long amount) {
+        current += amount;
+    }
+
+    void endFrame() {
+        lastFrame = current;
+        total += current;
+        max = Math.max(max, current);
+        current = 0L;
+    }
+
+    void clear() {
+        lastFrame = 0L;
+        total = 0L;
+        max = 0L;
+        current = 0L;
+    }
+
+}
@@ -0,0 +1,121 @@
+package com.game.profiling;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import lombok.Getter;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static java.util.Collections.unmodifiableCollection;
+
+/**
+ * Registry pairOf named {@link Counter} instances, e.g. the per-frame work counts pairOf
+ * {@link com.game.world.WorldSystem}. Counters are always counting; the game context calls {@link #endFrame()} once
+ * per frame after all systems are updated, which closes the frame pairOf every counter and, if CSV export is running,
+ * writes one row per counter.
+ */
+public class MetricsRegistry {
+
+    private static final String CSV_HEADER = "frame,counter,value\n";
+
+    private final Map<String, Counter> counters = new LinkedHashMap<>();
+
+    @Getter
+    private long frame;
+
+    private Writer csvWriter;
+
+    /**
+     * Returns the counter pairOf the name, registering it if not already registered.
+     *
+     * @param name the name
+     * @return the counter
+     */
+    public Counter counter(String name) {
+        return counters.computeIfAbsent(name, Counter::new);
+    }
+
+    /**
+     * Returns an unmodifiable view pairOf the counters in the order they were registered.
+     *
+     * @return the counters
+     */
+    public Collection<Counter> getCounters() {
+        return unmodifiableCollection(counters.values());
+    }
+
+    /**
+     * Closes the frame. See {@link MetricsRegistry}.
+     */
+    public void endFrame() {
+        for (Counter counter : counters.values()) {
+            counter.endFrame();
+        }
+        if (csvWriter != null) {
+            try {
+                for (Counter counter : counters.values()) {
+                    csvWriter.append(Long.toString(frame)).append(',')
+                            .append(counter.getName()).append(',')
+                            .append(Long.toString(counter.getLastFrame())).append('\n');
+                }
+            } catch (IOException e) {
+                stopCsv();
+                throw new GdxRuntimeException("Failed to write metrics CSV", e);
+            }
+        }
+        frame++;
+    }
+
+    /**
+     * Resets every counter and the frame count to zero.
+     */
+    public void clear() {
+        counters.values().forEach(Counter::clear);
+        frame = 0L;
+    }
+
+    /**
+     * Starts writing per-frame rows to the CSV file in local storage, replacing any existing file.
+     *
+     * @param localPath the path pairOf the CSV file relative to local storage
+     */
+    public void startCsv(String localPath) {
+        stopCsv();
+        csvWriter = new BufferedWriter(Gdx.files.local(localPath).writer(false, "UTF-8"));
+        try {
+            csvWriter.write(CSV_HEADER);
+        } catch (IOException e) {
+            stopCsv();
+            throw new GdxRuntimeException("Failed to write metrics CSV", e);
+        }
+    }
+
+    /**
+     * Returns if CSV export is running.
+     *
+     * @return if CSV export is running
+     */
+    public boolean isCsvRunning() {
+        return csvWriter != null;
+    }
+
+    /**
+     * Flushes and closes the CSV file if CSV export is running.
+     */
+    public void stopCsv() {
+        if (csvWriter == null) {
+            return;
+        }
+        try {
+            csvWriter.close();
+        } catch (IOException ignored) {
+        }
+        csvWriter = null;
+    }
+
+}
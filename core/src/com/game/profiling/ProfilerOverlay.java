@@ -0,0 +1,106 @@
+package com.game.profiling;
+
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.math.Vector2;
+import com.game.text.MegaTextHandle;
+import com.game.utils.interfaces.Drawable;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.game.ViewVals.PPM;
+import static com.game.ViewVals.VIEW_HEIGHT;
+import static java.lang.Math.round;
+
+/**
+ * HUD overlay listing the {@link SystemProfile} pairOf each system, slowest first by 95th percentile. Each row shows
+ * the last frame's total time, the 50th and 95th percentile over the rolling window, the entity count, and the bytes
+ * allocated during the last frame. Below the systems, each {@link Counter} pairOf the {@link MetricsRegistry} is
+ * listed with its count for the last frame, its mean per frame, and its max. Meant to be drawn with the projection
+ * matrix pairOf the UI viewport.
+ */
+public class ProfilerOverlay implements Drawable {
+
+    private static final long NANOS_PER_HUNDREDTH_MILLI = 10_000L;
+
+    private final SystemProfiler profiler;
+    private final MetricsRegistry metrics;
+    private final MegaTextHandle textHandle;
+    private final List<SystemProfile> rows = new ArrayList<>();
+    private final StringBuilder text = new StringBuilder();
+
+    @Getter
+    @Setter
+    private boolean visible;
+
+    /**
+     * Instantiates a new profiler overlay drawn at the top left pairOf the UI viewport.
+     *
+     * @param profiler the profiler
+     * @param metrics  the metrics registry
+     */
+    public ProfilerOverlay(SystemProfiler profiler, MetricsRegistry metrics) {
+        this.profiler = profiler;
+        this.metrics = metrics;
+        this.textHandle = new MegaTextHandle(round(PPM / 3f), new Vector2(PPM / 2f, (VIEW_HEIGHT - 1.5f) * PPM));
+        this.textHandle.setText(this::buildText);
+    }
+
+    @Override
+    public void draw(SpriteBatch spriteBatch) {
+        if (!visible) {
+            return;
+        }
+        textHandle.draw(spriteBatch);
+    }
+
+    private String buildText() {
+        rows.clear();
+        rows.addAll(profiler.getProfiles());
+        rows.sort((p1, p2) -> Long.compare(p2.getPercentileNanos(.95f), p1.getPercentileNanos(.95f)));
+        text.setLength(0);
+        text.append("frame ").append(profiler.getFrame());
+        if (profiler.isCsvRunning()) {
+            text.append(" csv");
+        }
+        text.append('\n').append("system  ms  p50  p95  ent  kb\n");
+        for (SystemProfile profile : rows) {
+            text.append(profile.getName()).append("  ");
+            appendHundredths(Math.round((double) profile.getTotalNanos() / NANOS_PER_HUNDREDTH_MILLI));
+            text.append("  ");
+            appendHundredths(Math.round((double) profile.getPercentileNanos(.5f) / NANOS_PER_HUNDREDTH_MILLI));
+            text.append("  ");
+            appendHundredths(Math.round((double) profile.getPercentileNanos(.95f) / NANOS_PER_HUNDREDTH_MILLI));
+            text.append("  ").append(profile.getEntityCount()).append("  ");
+            if (profile.getAllocatedBytes() < 0) {
+                text.append('-');
+            } else {
+                text.append(profile.getAllocatedBytes() / 1024);
+            }
+            text.append('\n');
+        }
+        text.append("counter  last  mean  max\n");
+        long frames = Math.max(metrics.getFrame(), 1L);
+        for (Counter counter : metrics.getCounters()) {
+            long tenths = Math.round(counter.getTotal() * 10d / frames);
+            text.append(counter.getName()).append("  ")
+                    .append(counter.getLastFrame()).append("  ")
+                    .append(tenths / 10).append('.').append(tenths % 10).append("  ")
+                    .append(counter.getMax())
+                    .append('\n');
+        }
+        return text.toString();
+    }
+
+    private void appendHundredths(long hundredths) {
+        long fraction = hundredths % 100;
+        text.append(hundredths / 100).append('.');
+        if (fraction < 10) {
+            text.append('0');
+        }
+        text.append(fraction);
+    }
+
+}
@@ -0,0 +1,119 @@
+package com.game.profiling;
+
+import com.game.System;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.util.Arrays;
+
+/**
+ * Timings pairOf one {@link System} for the most recent update cycle plus a rolling window pairOf total update times
+ * from which percentiles are computed. The system records into its profile through
+ * {@link #record(long, long, long, int, long)} and {@link SystemProfiler} closes each frame with {@link #endFrame()}.
+ * The window is sorted at most once per frame, on the first percentile read after it changes.
+ */
+@Getter
+public class SystemProfile {
+
+    private final System system;
+    private final String name;
+
+    private long preProcessNanos;
+    private long processNanos;
+    private long postProcessNanos;
+    private int entityCount;
+    private long allocatedBytes;
+    private boolean updatedThisFrame;
+
+    private final long[] window;
+    private final long[] sorted;
+    private int windowSize;
+    private int windowIndex;
+    @Getter(AccessLevel.NONE)
+    private boolean sortedStale;
+
+    /**
+     * Instantiates a new system profile.
+     *
+     * @param system     the system
+     * @param windowSize the number pairOf frames pairOf the rolling window
+     */
+    public SystemProfile(System system, int windowSize) {
+        this.system = system;
+        this.name = system.getClass().getSimpleName();
+        this.window = new long[windowSize];
+        this.sorted = new long[windowSize];
+    }
+
+    /**
+     * Records the timings pairOf an update cycle. Called by the system at the end pairOf its update cycle.
+     *
+     * @param preProcessNanos  the nanos spent in pre-processing
+     * @param processNanos     the nanos spent processing entities
+     * @param postProcessNanos the nanos spent in post-processing
+     * @param entityCount      the number pairOf member entities
+     * @param allocatedBytes   the bytes allocated by the updating thread during the update cycle, or -1 if unknown
+     */
+    public void record(long preProcessNanos, long processNanos, long postProcessNanos, int entityCount,
+                       long allocatedBytes) {
+        this.preProcessNanos = preProcessNanos;
+        this.processNanos = processNanos;
+        this.postProcessNanos = postProcessNanos;
+        this.entityCount = entityCount;
+        this.allocatedBytes = allocatedBytes;
+        updatedThisFrame = true;
+    }
+
+    /**
+     * Returns the sum pairOf pre-processing, processing, and post-processing nanos pairOf the last update cycle.
+     *
+     * @return the total nanos
+     */
+    public long getTotalNanos() {
+        return preProcessNanos + processNanos + postProcessNanos;
+    }
+
+    /**
+     * Pushes the total nanos pairOf the frame into the rolling window. If the system was not updated this frame, then
+     * nothing is pushed.
+     */
+    public void endFrame() {
+        if (!updatedThisFrame) {
+            return;
+        }
+        window[windowIndex] = getTotalNanos();
+        windowIndex = (windowIndex + 1) % window.length;
+        windowSize = Math.min(windowSize + 1, window.length);
+        sortedStale = true;
+        updatedThisFrame = false;
+    }
+
+    /**
+     * Returns the percentile pairOf total nanos over the rolling window, 0 if the window is empty.
+     *
+     * @param percentile the percentile, from 0 to 1
+     * @return the total nanos at the percentile
+     */
+    public long getPercentileNanos(float percentile) {
+        if (windowSize == 0) {
+            return 0L;
+        }
+        if (sortedStale) {
+            java.lang.System.arraycopy(window, 0, sorted, 0, windowSize);
+            Arrays.sort(sorted, 0, windowSize);
+            sortedStale = false;
+        }
+        int index = Math.min(Math.round(percentile * (windowSize - 1)), windowSize - 1);
+        return sorted[index];
+    }
+
+    /**
+     * Clears the rolling window.
+     */
+    public void clear() {
+        windowSize = 0;
+        windowIndex = 0;
+        updatedThisFrame = false;
+    }
+
+}
@@ -0,0 +1,182 @@
+package com.game.profiling;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.game.System;
+import lombok.Getter;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.Collections.unmodifiableList;
+
+/**
+ * Frame profiler for {@link System} instances. While enabled, each attached system records the wall time pairOf its
+ * pre-processing, entity loop, and post-processing, its entity count, and the bytes allocated by the updating thread
+ * into its {@link SystemProfile}. The game context calls {@link #endFrame()} once per frame after all systems are
+ * updated, which pushes the frame into the rolling windows and, if CSV export is running, writes one row per updated
+ * system.
+ */
+public class SystemProfiler {
+
+    private static final int WINDOW_SIZE = 240;
+    private static final String CSV_HEADER =
+            "frame,system,pre_process_nanos,process_nanos,post_process_nanos,entities,allocated_bytes\n";
+
+    private static final com.sun.management.ThreadMXBean THREAD_MX_BEAN = threadMXBean();
+
+    private final List<SystemProfile> profiles = new ArrayList<>();
+
+    @Getter
+    private boolean enabled;
+    @Getter
+    private long frame;
+
+    private Writer csvWriter;
+
+    /**
+     * Returns the bytes allocated so far by the current thread, or -1 if the JVM does not support allocation metrics.
+     *
+     * @return the allocated bytes
+     */
+    public static long currentThreadAllocatedBytes() {
+        return THREAD_MX_BEAN != null ? THREAD_MX_BEAN.getCurrentThreadAllocatedBytes() : -1L;
+    }
+
+    private static com.sun.management.ThreadMXBean threadMXBean() {
+        try {
+            if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threadMXBean &&
+                    threadMXBean.isThreadAllocatedMemorySupported()) {
+                threadMXBean.setThreadAllocatedMemoryEnabled(true);
+                return threadMXBean;
+            }
+        } catch (UnsupportedOperationException | NoClassDefFoundError ignored) {
+        }
+        return null;
+    }
+
+    /**
+     * Attaches a profile to the system. If this profiler is enabled, then the system starts recording immediately.
+     *
+     * @param system the system
+     */
+    public void attach(System system) {
+        for (SystemProfile profile : profiles) {
+            if (profile.getSystem() == system) {
+                return;
+            }
+        }
+        SystemProfile profile = new SystemProfile(system, WINDOW_SIZE);
+        profiles.add(profile);
+        if (enabled) {
+            system.setProfile(profile);
+        }
+    }
+
+    /**
+     * Sets if the attached systems record their timings. Disabling clears the rolling windows and stops any CSV
+     * export.
+     *
+     * @param enabled if enabled
+     */
+    public void setEnabled(boolean enabled) {
+        if (this.enabled == enabled) {
+            return;
+        }
+        this.enabled = enabled;
+        for (SystemProfile profile : profiles) {
+            profile.clear();
+            profile.getSystem().setProfile(enabled ? profile : null);
+        }
+        if (!enabled) {
+            stopCsv();
+        }
+    }
+
+    /**
+     * Returns an unmodifiable view pairOf the profiles in the order the systems were attached.
+     *
+     * @return the profiles
+     */
+    public List<SystemProfile> getProfiles() {
+        return unmodifiableList(profiles);
+    }
+
+    /**
+     * Closes the frame. See {@link SystemProfiler}.
+     */
+    public void endFrame() {
+        if (!enabled) {
+            return;
+        }
+        if (csvWriter != null) {
+            try {
+                for (SystemProfile profile : profiles) {
+                    if (!profile.isUpdatedThisFrame()) {
+                        continue;
+                    }
+                    csvWriter.append(Long.toString(frame)).append(',')
+                            .append(profile.getName()).append(',')
+                            .append(Long.toString(profile.getPreProcessNanos())).append(',')
+                            .append(Long.toString(profile.getProcessNanos())).append(',')
+                            .append(Long.toString(profile.getPostProcessNanos())).append(',')
+                            .append(Integer.toString(profile.getEntityCount())).append(',')
+                            .append(Long.toString(profile.getAllocatedBytes())).append('\n');
+                }
+            } catch (IOException e) {
+                stopCsv();
+                throw new GdxRuntimeException("Failed to write profiler CSV", e);
+            }
+        }
+        for (SystemProfile profile : profiles) {
+            profile.endFrame();
+        }
+        frame++;
+    }
+
+    /**
+     * Starts writing per-frame rows to the CSV file in local storage, replacing any existing file. Enables this
+     * profiler if it is not enabled.
+     *
+     * @param localPath the path pairOf the CSV file relative to local storage
+     */
+    public void startCsv(String localPath) {
+        stopCsv();
+        setEnabled(true);
+        csvWriter = new BufferedWriter(Gdx.files.local(localPath).writer(false, "UTF-8"));
+        try {
+            csvWriter.write(CSV_HEADER);
+        } catch (IOException e) {
+            stopCsv();
+            throw new GdxRuntimeException("Failed to write profiler CSV", e);
+        }
+    }
+
+    /**
+     * Returns if CSV export is running.
+     *
+     * @return if CSV export is running
+     */
+    public boolean isCsvRunning() {
+        return csvWriter != null;
+    }
+
+    /**
+     * Flushes and closes the CSV file if CSV export is running.
+     */
+    public void stopCsv() {
+        if (csvWriter == null) {
+            return;
+        }
+        try {
+            csvWriter.close();
+        } catch (IOException ignored) {
+        }
+        csvWriter = null;
+    }
+
+}
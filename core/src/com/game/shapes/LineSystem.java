@@ -7,6 +7,8 @@ import com.game.entities.Entity;
 import com.game.System;
 import com.game.utils.objects.Pair;
 
+import java.util.List;
+
 import static com.badlogic.gdx.graphics.glutils.ShapeRenderer.ShapeType.*;
 
 public class LineSystem extends System {
@@ -32,13 +34,18 @@ public class LineSystem extends System {
     @Override
     protected void processEntity(Entity entity, float delta) {
         LineComponent lineComponent = entity.getComponent(LineComponent.class);
-        lineComponent.getLineHandles().stream().filter(LineHandle::doRender).forEach(l -> {
+        List<LineHandle> lineHandles = lineComponent.getLineHandles();
+        for (int i = 0; i < lineHandles.size(); i++) {
+            LineHandle l = lineHandles.get(i);
+            if (!l.doRender()) {
+                continue;
+            }
             shapeRenderer.setColor(l.getColor());
             shapeRenderer.set(l.getShapeType());
             float thickness = l.getThickness();
             Pair<Vector2> line = l.getLine();
             shapeRenderer.rectLine(line.getFirst(), line.getSecond(), thickness);
-        });
+        }
     }
 
     @Override
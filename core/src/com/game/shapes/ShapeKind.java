@@ -0,0 +1,41 @@
+package com.game.shapes;
+
+import com.badlogic.gdx.math.*;
+import com.game.shapes.custom.Triangle;
+
+/**
+ * Tag for the concrete type pairOf a {@link Shape2D}, resolved once so that shape routines can be picked by ordinal
+ * instead pairOf by testing the class pairOf the shape on every call, see
+ * {@link com.game.utils.ShapeUtils#overlap(ShapeKind, Shape2D, ShapeKind, Shape2D)}.
+ */
+public enum ShapeKind {
+
+    RECTANGLE,
+    CIRCLE,
+    POLYLINE,
+    TRIANGLE,
+    POLYGON,
+    OTHER;
+
+    /**
+     * Returns the kind pairOf the shape.
+     *
+     * @param shape the shape
+     * @return the kind
+     */
+    public static ShapeKind of(Shape2D shape) {
+        if (shape instanceof Rectangle) {
+            return RECTANGLE;
+        } else if (shape instanceof Circle) {
+            return CIRCLE;
+        } else if (shape instanceof Polyline) {
+            return POLYLINE;
+        } else if (shape instanceof Triangle) {
+            return TRIANGLE;
+        } else if (shape instanceof Polygon) {
+            return POLYGON;
+        }
+        return OTHER;
+    }
+
+}
@@ -6,19 +6,20 @@ import com.badlogic.gdx.math.*;
 import com.game.entities.Entity;
 import com.game.System;
 import com.game.utils.interfaces.Updatable;
-import com.game.utils.objects.Pair;
 
 import java.util.EnumMap;
+import java.util.List;
 import java.util.Map;
 import java.util.PriorityQueue;
 import java.util.Queue;
 
 import static com.badlogic.gdx.graphics.glutils.ShapeRenderer.*;
-import static com.game.utils.ShapeUtils.*;
 
 /** System implementation for rendering shapes. */
 public class ShapeSystem extends System {
 
+    private static final ShapeType[] SHAPE_TYPES = ShapeType.values();
+
     private final Map<ShapeType, Queue<ShapeHandle>> shapeHandles = new EnumMap<>(ShapeType.class);
     private final ShapeRenderer shapeRenderer;
     private final Camera camera;
@@ -41,8 +42,13 @@ public class ShapeSystem extends System {
     @Override
     protected void processEntity(Entity entity, float delta) {
         ShapeComponent shapeComponent = entity.getComponent(ShapeComponent.class);
-        shapeComponent.getShapeHandles().stream().filter(ShapeHandle::doRender).forEach(s ->
-            shapeHandles.get(s.getShapeType()).add(s));
+        List<ShapeHandle> handles = shapeComponent.getShapeHandles();
+        for (int i = 0; i < handles.size(); i++) {
+            ShapeHandle s = handles.get(i);
+            if (s.doRender()) {
+                shapeHandles.get(s.getShapeType()).add(s);
+            }
+        }
     }
 
     @Override
@@ -51,7 +57,8 @@ public class ShapeSystem extends System {
         if (shapeRenderer.isDrawing()) {
             shapeRenderer.end();
         }
-        shapeHandles.forEach(((shapeType, shapeHandleQ) -> {
+        for (ShapeType shapeType : SHAPE_TYPES) {
+            Queue<ShapeHandle> shapeHandleQ = shapeHandles.get(shapeType);
             shapeRenderer.begin(shapeType);
             while (!shapeHandleQ.isEmpty()) {
                 ShapeHandle s = shapeHandleQ.poll();
@@ -61,7 +68,8 @@ public class ShapeSystem extends System {
                 }
                 Shape2D shape = s.getShape();
                 if (shape == null) {
-                    return;
+                    // skip only this handle, the rest pairOf the queue is still drawn and the renderer still ended
+                    continue;
                 }
                 shapeRenderer.set(s.getShapeType());
                 shapeRenderer.setColor(s.getColor());
@@ -70,12 +78,12 @@ public class ShapeSystem extends System {
                 } else if (shape instanceof Circle circle) {
                     shapeRenderer.circle(circle.x, circle.y, circle.radius);
                 } else if (shape instanceof Polyline line) {
-                    Pair<Vector2> l = polylineToPointPair(line);
-                    shapeRenderer.line(l.getFirst(), l.getSecond());
+                    float[] v = line.getTransformedVertices();
+                    shapeRenderer.line(v[0], v[1], v[2], v[3]);
                 }
             }
             shapeRenderer.end();
-        }));
+        }
     }
 
 }
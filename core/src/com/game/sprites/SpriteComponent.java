@@ -2,7 +2,10 @@ package com.game.sprites;
 
 import com.badlogic.gdx.graphics.g2d.Sprite;
 import com.game.Component;
+import com.game.world.BodyComponent;
+import lombok.AccessLevel;
 import lombok.Getter;
+import lombok.Setter;
 
 /**
  * {@link Component} implementation for handling {@link Sprite}.
@@ -13,6 +16,10 @@ public class SpriteComponent extends Component {
     private final Sprite sprite;
     private final SpriteProcessor spriteProcessor;
 
+    @Getter(AccessLevel.PACKAGE)
+    @Setter(AccessLevel.PACKAGE)
+    private BodyComponent bodyComponent;
+
     public SpriteComponent() {
         this(new Sprite());
     }
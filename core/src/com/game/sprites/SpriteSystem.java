@@ -9,27 +9,58 @@ import com.game.entities.Entity;
 import com.game.System;
 import com.game.utils.enums.Position;
 import com.game.utils.objects.Wrapper;
+import com.game.world.BodyComponent;
 
+import java.util.Comparator;
 import java.util.PriorityQueue;
 import java.util.Queue;
+import java.util.function.Supplier;
 
 import static com.game.utils.UtilMethods.*;
 
-/** {@link System} implementation for rendering {@link Sprite}. */
+/**
+ * {@link System} implementation for rendering {@link Sprite}. When a {@link SpriteProcessor} positions a sprite by the
+ * collision box pairOf its entity's {@link BodyComponent}, the box is interpolated between the last two physics steps
+ * by the supplied interpolation alpha, so that sprites move smoothly however the display rate and the fixed step rate
+ * differ.
+ */
 public class SpriteSystem extends System {
 
-    private final Queue<SpriteComponent> spriteComponentQueue = new PriorityQueue<>((o1, o2) -> {
+    /**
+     * Orders sprite components by {@link SpriteProcessor#getSpriteRenderPriority()}, lowest first. Sprites are drawn
+     * in this order.
+     */
+    public static final Comparator<SpriteComponent> RENDER_PRIORITY_COMPARATOR = (o1, o2) -> {
         int p1 = o1.getSpriteProcessor().getSpriteRenderPriority();
         int p2 = o2.getSpriteProcessor().getSpriteRenderPriority();
         return p1 - p2;
-    });
+    };
+
+    private final Queue<SpriteComponent> spriteComponentQueue = new PriorityQueue<>(RENDER_PRIORITY_COMPARATOR);
+    private final Wrapper<Rectangle> bounds = Wrapper.empty();
+    private final Wrapper<Position> position = Wrapper.empty();
+    private final Rectangle interpolatedBounds = new Rectangle();
+    private final Supplier<Float> interpolationAlpha;
     private final OrthographicCamera camera;
     private final SpriteBatch spriteBatch;
 
     public SpriteSystem(OrthographicCamera camera, SpriteBatch spriteBatch) {
+        this(camera, spriteBatch, () -> 1f);
+    }
+
+    /**
+     * Instantiates a new sprite system.
+     *
+     * @param camera             the camera
+     * @param spriteBatch        the sprite batch
+     * @param interpolationAlpha the supplier pairOf the interpolation alpha, see
+     *                           {@link com.game.world.WorldSystem#getInterpolationAlpha()}
+     */
+    public SpriteSystem(OrthographicCamera camera, SpriteBatch spriteBatch, Supplier<Float> interpolationAlpha) {
         super(SpriteComponent.class);
         this.camera = camera;
         this.spriteBatch = spriteBatch;
+        this.interpolationAlpha = interpolationAlpha;
     }
 
     @Override
@@ -40,6 +71,7 @@ public class SpriteSystem extends System {
     @Override
     protected void processEntity(Entity entity, float delta) {
         SpriteComponent spriteComponent = entity.getComponent(SpriteComponent.class);
+        spriteComponent.setBodyComponent(entity.getComponent(BodyComponent.class));
         spriteComponentQueue.add(spriteComponent);
     }
 
@@ -47,6 +79,7 @@ public class SpriteSystem extends System {
     protected void postProcess(float delta) {
         spriteBatch.setProjectionMatrix(camera.combined);
         spriteBatch.begin();
+        float alpha = interpolationAlpha.get();
         while (!spriteComponentQueue.isEmpty()) {
             SpriteComponent spriteComponent = spriteComponentQueue.poll();
             Sprite sprite = spriteComponent.getSprite();
@@ -54,8 +87,8 @@ public class SpriteSystem extends System {
                 continue;
             }
             SpriteProcessor spriteProcessor = spriteComponent.getSpriteProcessor();
-            Wrapper<Rectangle> bounds = Wrapper.of(null);
-            Wrapper<Position> position = Wrapper.of(null);
+            bounds.setData(null);
+            position.setData(null);
             if (spriteProcessor.setPositioning(bounds, position)) {
                 if (bounds.getData() == null) {
                     throw new IllegalStateException("SpriteProcessor::setPositioning returns true but the value " +
@@ -65,7 +98,12 @@ public class SpriteSystem extends System {
                     throw new IllegalStateException("SpriteProcessor::setPositioning returns true but the value " +
                             "pairOf Wrapper<Position>::getContent is null");
                 }
-                Vector2 point = getPoint(bounds.getData(), position.getData());
+                Rectangle boundsData = bounds.getData();
+                BodyComponent bodyComponent = spriteComponent.getBodyComponent();
+                if (bodyComponent != null && boundsData == bodyComponent.getCollisionBox()) {
+                    boundsData = bodyComponent.getInterpolatedCollisionBox(alpha, interpolatedBounds);
+                }
+                Vector2 point = getPoint(boundsData, position.getData());
                 setToPoint(sprite.getBoundingRectangle(), point, position.getData(), sprite::setPosition);
             }
             Vector2 sizeTrans = spriteProcessor.getSizeTrans();
@@ -1,6 +1,7 @@
 package com.game.utils;
 
 import com.badlogic.gdx.math.*;
+import com.game.shapes.ShapeKind;
 import com.game.shapes.custom.Triangle;
 import com.game.utils.objects.Pair;
 
@@ -10,12 +11,48 @@ import java.util.Collection;
 import java.util.List;
 
 import static com.badlogic.gdx.math.Intersector.*;
+import static com.game.shapes.ShapeKind.*;
 import static com.game.utils.UtilMethods.*;
 import static com.game.utils.objects.Pair.pairOf;
 
 /** Util methods for shapes. */
 public class ShapeUtils {
 
+    private static final ShapeKind[] SHAPE_KINDS = ShapeKind.values();
+    private static final OverlapKernel[][] OVERLAP_KERNELS = new OverlapKernel[SHAPE_KINDS.length][SHAPE_KINDS.length];
+
+    static {
+        for (OverlapKernel[] kernels : OVERLAP_KERNELS) {
+            Arrays.fill(kernels, (OverlapKernel) (s1, s2) -> false);
+        }
+        registerOverlap(RECTANGLE, RECTANGLE, (s1, s2) -> Intersector.overlaps((Rectangle) s1, (Rectangle) s2));
+        registerOverlap(CIRCLE, CIRCLE, (s1, s2) -> ((Circle) s1).overlaps((Circle) s2));
+        registerOverlap(POLYLINE, POLYLINE, (s1, s2) -> {
+            float[] v = ((Polyline) s1).getTransformedVertices();
+            float[] w = ((Polyline) s2).getTransformedVertices();
+            return intersectSegments(v[0], v[1], v[2], v[3], w[0], w[1], w[2], w[3], null);
+        });
+        registerOverlap(RECTANGLE, CIRCLE, (s1, s2) -> Intersector.overlaps((Circle) s2, (Rectangle) s1));
+        registerOverlap(RECTANGLE, POLYLINE, (s1, s2) -> {
+            float[] v = ((Polyline) s2).getTransformedVertices();
+            return intersectSegmentRectangle(v[0], v[1], v[2], v[3], (Rectangle) s1);
+        });
+        registerOverlap(CIRCLE, POLYLINE, (s1, s2) -> {
+            float[] v = ((Polyline) s2).getTransformedVertices();
+            return overlapSegmentCircle(v[0], v[1], v[2], v[3], (Circle) s1);
+        });
+        registerOverlap(TRIANGLE, RECTANGLE, (s1, s2) ->
+                overlapTriangleRectangle(((Triangle) s1).getTransformedVertices(), (Rectangle) s2));
+        registerOverlap(TRIANGLE, CIRCLE, (s1, s2) ->
+                overlapTriangleCircle(((Triangle) s1).getTransformedVertices(), (Circle) s2));
+        registerOverlap(TRIANGLE, POLYLINE, (s1, s2) -> {
+            float[] w = ((Polyline) s2).getTransformedVertices();
+            return overlapTriangleSegment(((Triangle) s1).getTransformedVertices(), w[0], w[1], w[2], w[3]);
+        });
+        registerOverlap(TRIANGLE, TRIANGLE, (s1, s2) ->
+                overlapTriangles(((Triangle) s1).getTransformedVertices(), ((Triangle) s2).getTransformedVertices()));
+    }
+
     /**
      * Converts the points to an array of vertices.
      *
@@ -32,34 +69,248 @@ public class ShapeUtils {
     }
 
     /**
-     * Supports overlap detection for {@link Rectangle}, {@link Circle}, and {@link Polyline}.
+     * Supports overlap detection for {@link Rectangle}, {@link Circle}, {@link Polyline}, and {@link Triangle}. See
+     * {@link #overlap(ShapeKind, Shape2D, ShapeKind, Shape2D)}.
      *
      * @param s1 the first shape
      * @param s2 the second shape
      * @return if the two shapes overlap
      */
     public static boolean overlap(Shape2D s1, Shape2D s2) {
-        Pair<Shape2D> p = new Pair<>();
-        if (mask(s1, s2, Rectangle.class)) {
-            return Intersector.overlaps((Rectangle) s1, (Rectangle) s2);
-        } else if (mask(s1, s2, Circle.class)) {
-            return overlaps((Circle) s1, (Circle) s2);
-        } else if (mask(s1, s2, Polyline.class)) {
-            return overlapLines((Polyline) s1, (Polyline) s2);
-        } else if (mask(s1, s2, Rectangle.class, Circle.class, p)) {
-            return overlaps((Circle) p.getSecond(), (Rectangle) p.getFirst());
-        } else if (mask(s1, s2, Rectangle.class, Polyline.class, p)) {
-            Polyline polyline = (Polyline) p.getSecond();
-            float[] v = polyline.getTransformedVertices();
-            return intersectSegmentRectangle(new Vector2(v[0], v[1]), new Vector2(v[2], v[3]),
-                    (Rectangle) p.getFirst());
-        } else if (mask(s1, s2, Circle.class, Polyline.class, p)) {
-            Pair<Vector2> line = polylineToPointPair((Polyline) p.getSecond());
-            return intersectSegmentCircle(line.getFirst(), line.getSecond(), (Circle) p.getFirst(), null);
+        return overlap(ShapeKind.of(s1), s1, ShapeKind.of(s2), s2);
+    }
+
+    /**
+     * Returns if the two shapes overlap, picking the overlap routine from a table indexed by the kinds pairOf the
+     * shapes. The routines do not allocate and do not write shared state, except that polylines and triangles compute
+     * their transformed vertices lazily. Only the first segment pairOf a polyline is tested. Pairs pairOf kinds without
+     * a routine, such as any pair with a {@link ShapeKind#POLYGON}, never overlap.
+     *
+     * @param kind1 the kind pairOf the first shape
+     * @param s1    the first shape
+     * @param kind2 the kind pairOf the second shape
+     * @param s2    the second shape
+     * @return if the two shapes overlap
+     */
+    public static boolean overlap(ShapeKind kind1, Shape2D s1, ShapeKind kind2, Shape2D s2) {
+        return OVERLAP_KERNELS[kind1.ordinal()][kind2.ordinal()].overlap(s1, s2);
+    }
+
+    /**
+     * Sets the rectangle to the axis-aligned bounds pairOf the shape.
+     *
+     * @param kind   the kind pairOf the shape
+     * @param shape  the shape
+     * @param bounds the rectangle to set
+     * @return the rectangle
+     */
+    public static Rectangle setBounds(ShapeKind kind, Shape2D shape, Rectangle bounds) {
+        return switch (kind) {
+            case RECTANGLE -> bounds.set((Rectangle) shape);
+            case CIRCLE -> {
+                Circle circle = (Circle) shape;
+                yield bounds.set(circle.x - circle.radius, circle.y - circle.radius, circle.radius * 2f,
+                        circle.radius * 2f);
+            }
+            case POLYLINE -> setBounds(((Polyline) shape).getTransformedVertices(), bounds);
+            case TRIANGLE -> setBounds(((Triangle) shape).getTransformedVertices(), bounds);
+            case POLYGON -> setBounds(((Polygon) shape).getTransformedVertices(), bounds);
+            case OTHER -> throw new UnsupportedOperationException("Unsupported shape");
+        };
+    }
+
+    /**
+     * Returns if the segment overlaps the circle, the same as
+     * {@link Intersector#intersectSegmentCircle(Vector2, Vector2, Circle, Intersector.MinimumTranslationVector)}
+     * without a translation vector, but without its shared temporary vectors.
+     *
+     * @param x1     the x pairOf the start pairOf the segment
+     * @param y1     the y pairOf the start pairOf the segment
+     * @param x2     the x pairOf the end pairOf the segment
+     * @param y2     the y pairOf the end pairOf the segment
+     * @param circle the circle
+     * @return if the segment overlaps the circle
+     */
+    public static boolean overlapSegmentCircle(float x1, float y1, float x2, float y2, Circle circle) {
+        float dx = x2 - x1;
+        float dy = y2 - y1;
+        float len = (float) Math.sqrt(dx * dx + dy * dy);
+        if (len != 0f) {
+            dx /= len;
+            dy /= len;
+        }
+        float u = (circle.x - x1) * dx + (circle.y - y1) * dy;
+        float px;
+        float py;
+        if (u <= 0f) {
+            px = x1;
+            py = y1;
+        } else if (u >= len) {
+            px = x2;
+            py = y2;
+        } else {
+            px = dx * u + x1;
+            py = dy * u + y1;
+        }
+        px -= circle.x;
+        py -= circle.y;
+        return px * px + py * py <= circle.radius * circle.radius;
+    }
+
+    /**
+     * Returns if the point is inside the triangle or on its edges.
+     *
+     * @param v the vertices pairOf the triangle
+     * @param x the x pairOf the point
+     * @param y the y pairOf the point
+     * @return if the point is in the triangle
+     */
+    public static boolean triangleContains(float[] v, float x, float y) {
+        float d1 = (v[2] - v[0]) * (y - v[1]) - (v[3] - v[1]) * (x - v[0]);
+        float d2 = (v[4] - v[2]) * (y - v[3]) - (v[5] - v[3]) * (x - v[2]);
+        float d3 = (v[0] - v[4]) * (y - v[5]) - (v[1] - v[5]) * (x - v[4]);
+        boolean negative = d1 < 0f || d2 < 0f || d3 < 0f;
+        boolean positive = d1 > 0f || d2 > 0f || d3 > 0f;
+        return !(negative && positive);
+    }
+
+    /**
+     * Returns if the triangle and the segment overlap.
+     *
+     * @param v  the vertices pairOf the triangle
+     * @param x1 the x pairOf the start pairOf the segment
+     * @param y1 the y pairOf the start pairOf the segment
+     * @param x2 the x pairOf the end pairOf the segment
+     * @param y2 the y pairOf the end pairOf the segment
+     * @return if the triangle and the segment overlap
+     */
+    public static boolean overlapTriangleSegment(float[] v, float x1, float y1, float x2, float y2) {
+        if (triangleContains(v, x1, y1)) {
+            return true;
+        }
+        for (int i = 0; i < 6; i += 2) {
+            int j = (i + 2) % 6;
+            if (intersectSegments(v[i], v[i + 1], v[j], v[j + 1], x1, y1, x2, y2, null)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns if the triangle and the circle overlap.
+     *
+     * @param v      the vertices pairOf the triangle
+     * @param circle the circle
+     * @return if the triangle and the circle overlap
+     */
+    public static boolean overlapTriangleCircle(float[] v, Circle circle) {
+        if (triangleContains(v, circle.x, circle.y)) {
+            return true;
+        }
+        for (int i = 0; i < 6; i += 2) {
+            int j = (i + 2) % 6;
+            if (overlapSegmentCircle(v[i], v[i + 1], v[j], v[j + 1], circle)) {
+                return true;
+            }
         }
         return false;
     }
 
+    /**
+     * Returns if the triangle and the rectangle overlap, by separating axes.
+     *
+     * @param v    the vertices pairOf the triangle
+     * @param rect the rectangle
+     * @return if the triangle and the rectangle overlap
+     */
+    public static boolean overlapTriangleRectangle(float[] v, Rectangle rect) {
+        if (separated(1f, 0f, v, rect) || separated(0f, 1f, v, rect)) {
+            return false;
+        }
+        for (int i = 0; i < 6; i += 2) {
+            int j = (i + 2) % 6;
+            if (separated(v[i + 1] - v[j + 1], v[j] - v[i], v, rect)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns if the two triangles overlap, by separating axes.
+     *
+     * @param v the vertices pairOf the first triangle
+     * @param w the vertices pairOf the second triangle
+     * @return if the triangles overlap
+     */
+    public static boolean overlapTriangles(float[] v, float[] w) {
+        for (int i = 0; i < 6; i += 2) {
+            int j = (i + 2) % 6;
+            if (separated(v[i + 1] - v[j + 1], v[j] - v[i], v, w) ||
+                    separated(w[i + 1] - w[j + 1], w[j] - w[i], v, w)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean separated(float nx, float ny, float[] v, Rectangle rect) {
+        float rectMin = nx * (nx >= 0f ? rect.x : rect.x + rect.width) +
+                ny * (ny >= 0f ? rect.y : rect.y + rect.height);
+        float rectMax = nx * (nx >= 0f ? rect.x + rect.width : rect.x) +
+                ny * (ny >= 0f ? rect.y + rect.height : rect.y);
+        return maxDot(v, nx, ny) <= rectMin || rectMax <= minDot(v, nx, ny);
+    }
+
+    private static boolean separated(float nx, float ny, float[] v, float[] w) {
+        return maxDot(v, nx, ny) <= minDot(w, nx, ny) || maxDot(w, nx, ny) <= minDot(v, nx, ny);
+    }
+
+    private static float minDot(float[] v, float nx, float ny) {
+        float min = Float.POSITIVE_INFINITY;
+        for (int i = 0; i < v.length; i += 2) {
+            min = Math.min(min, v[i] * nx + v[i + 1] * ny);
+        }
+        return min;
+    }
+
+    private static float maxDot(float[] v, float nx, float ny) {
+        float max = Float.NEGATIVE_INFINITY;
+        for (int i = 0; i < v.length; i += 2) {
+            max = Math.max(max, v[i] * nx + v[i + 1] * ny);
+        }
+        return max;
+    }
+
+    private static Rectangle setBounds(float[] v, Rectangle bounds) {
+        float minX = v[0];
+        float minY = v[1];
+        float maxX = v[0];
+        float maxY = v[1];
+        for (int i = 2; i < v.length; i += 2) {
+            minX = Math.min(minX, v[i]);
+            minY = Math.min(minY, v[i + 1]);
+            maxX = Math.max(maxX, v[i]);
+            maxY = Math.max(maxY, v[i + 1]);
+        }
+        return bounds.set(minX, minY, maxX - minX, maxY - minY);
+    }
+
+    private static void registerOverlap(ShapeKind kind1, ShapeKind kind2, OverlapKernel kernel) {
+        OVERLAP_KERNELS[kind1.ordinal()][kind2.ordinal()] = kernel;
+        if (kind1 != kind2) {
+            OVERLAP_KERNELS[kind2.ordinal()][kind1.ordinal()] = (s1, s2) -> kernel.overlap(s2, s1);
+        }
+    }
+
+    @FunctionalInterface
+    private interface OverlapKernel {
+
+        boolean overlap(Shape2D s1, Shape2D s2);
+
+    }
+
     /**
      * Converts the rectangle into a polygon
      *
@@ -203,6 +454,177 @@ public class ShapeUtils {
         return intersectLines(line1, line2, new Vector2());
     }
 
+    /**
+     * Returns the time pairOf impact pairOf the moving rectangle translated by the delta against the fixed rectangle, as
+     * a fraction pairOf the delta from zero to one, or one if the rectangles do not meet during the move. Rectangles that
+     * already overlap before the move return one, since there is no entry to find.
+     *
+     * @param moving the moving rectangle at the start pairOf the move
+     * @param dx     the x delta pairOf the move
+     * @param dy     the y delta pairOf the move
+     * @param fixed  the fixed rectangle
+     * @return the time pairOf impact
+     */
+    public static float sweptTimeOfImpact(Rectangle moving, float dx, float dy, Rectangle fixed) {
+        float entryX;
+        float exitX;
+        if (dx > 0f) {
+            entryX = (fixed.x - (moving.x + moving.width)) / dx;
+            exitX = (fixed.x + fixed.width - moving.x) / dx;
+        } else if (dx < 0f) {
+            entryX = (fixed.x + fixed.width - moving.x) / dx;
+            exitX = (fixed.x - (moving.x + moving.width)) / dx;
+        } else if (moving.x < fixed.x + fixed.width && moving.x + moving.width > fixed.x) {
+            entryX = Float.NEGATIVE_INFINITY;
+            exitX = Float.POSITIVE_INFINITY;
+        } else {
+            return 1f;
+        }
+        float entryY;
+        float exitY;
+        if (dy > 0f) {
+            entryY = (fixed.y - (moving.y + moving.height)) / dy;
+            exitY = (fixed.y + fixed.height - moving.y) / dy;
+        } else if (dy < 0f) {
+            entryY = (fixed.y + fixed.height - moving.y) / dy;
+            exitY = (fixed.y - (moving.y + moving.height)) / dy;
+        } else if (moving.y < fixed.y + fixed.height && moving.y + moving.height > fixed.y) {
+            entryY = Float.NEGATIVE_INFINITY;
+            exitY = Float.POSITIVE_INFINITY;
+        } else {
+            return 1f;
+        }
+        float entry = Math.max(entryX, entryY);
+        float exit = Math.min(exitX, exitY);
+        if (entry > exit || entry < 0f || entry >= 1f) {
+            return 1f;
+        }
+        return entry;
+    }
+
+    /**
+     * Casts the ray from the point along the delta against the shape, and returns the fraction pairOf the delta at
+     * which the ray first hits the shape, from zero to one, or -1 if it does not hit the shape. If hit, then the normal
+     * is set to the unit normal pairOf the shape at the hit point, facing back along the ray. A ray starting inside a
+     * rectangle, circle, or triangle does not hit it. Polygons and other shapes are never hit.
+     *
+     * @param kind   the kind pairOf the shape
+     * @param shape  the shape
+     * @param x      the x pairOf the start pairOf the ray
+     * @param y      the y pairOf the start pairOf the ray
+     * @param dx     the x delta pairOf the ray
+     * @param dy     the y delta pairOf the ray
+     * @param normal the normal to set if hit
+     * @return the fraction pairOf the delta at the hit, or -1 if not hit
+     */
+    public static float raycast(ShapeKind kind, Shape2D shape, float x, float y, float dx, float dy, Vector2 normal) {
+        return switch (kind) {
+            case RECTANGLE -> raycastRectangle((Rectangle) shape, x, y, dx, dy, normal);
+            case CIRCLE -> raycastCircle((Circle) shape, x, y, dx, dy, normal);
+            case POLYLINE -> {
+                float[] v = ((Polyline) shape).getTransformedVertices();
+                yield raycastSegments(v, v.length - 2, x, y, dx, dy, normal);
+            }
+            case TRIANGLE -> {
+                float[] v = ((Triangle) shape).getTransformedVertices();
+                yield triangleContains(v, x, y) ? -1f : raycastSegments(v, v.length, x, y, dx, dy, normal);
+            }
+            case POLYGON, OTHER -> -1f;
+        };
+    }
+
+    private static float raycastRectangle(Rectangle rect, float x, float y, float dx, float dy, Vector2 normal) {
+        if (rect.contains(x, y)) {
+            return -1f;
+        }
+        float entry = 0f;
+        float exit = 1f;
+        float normalX = 0f;
+        float normalY = 0f;
+        if (dx != 0f) {
+            float t1 = (rect.x - x) / dx;
+            float t2 = (rect.x + rect.width - x) / dx;
+            float near = Math.min(t1, t2);
+            if (near > entry) {
+                entry = near;
+                normalX = dx > 0f ? -1f : 1f;
+            }
+            exit = Math.min(exit, Math.max(t1, t2));
+        } else if (x < rect.x || x > rect.x + rect.width) {
+            return -1f;
+        }
+        if (dy != 0f) {
+            float t1 = (rect.y - y) / dy;
+            float t2 = (rect.y + rect.height - y) / dy;
+            float near = Math.min(t1, t2);
+            if (near > entry) {
+                entry = near;
+                normalX = 0f;
+                normalY = dy > 0f ? -1f : 1f;
+            }
+            exit = Math.min(exit, Math.max(t1, t2));
+        } else if (y < rect.y || y > rect.y + rect.height) {
+            return -1f;
+        }
+        if (entry > exit) {
+            return -1f;
+        }
+        normal.set(normalX, normalY);
+        return entry;
+    }
+
+    private static float raycastCircle(Circle circle, float x, float y, float dx, float dy, Vector2 normal) {
+        float ox = x - circle.x;
+        float oy = y - circle.y;
+        float c = ox * ox + oy * oy - circle.radius * circle.radius;
+        if (c <= 0f) {
+            return -1f;
+        }
+        float a = dx * dx + dy * dy;
+        float b = ox * dx + oy * dy;
+        float discriminant = b * b - a * c;
+        if (a == 0f || b >= 0f || discriminant < 0f) {
+            return -1f;
+        }
+        float t = (-b - (float) Math.sqrt(discriminant)) / a;
+        if (t > 1f) {
+            return -1f;
+        }
+        normal.set(ox + dx * t, oy + dy * t).nor();
+        return t;
+    }
+
+    /**
+     * Casts the ray against the edges between consecutive vertices, closing the edges back to the first vertex if
+     * the number pairOf edges equals the number pairOf vertices.
+     */
+    private static float raycastSegments(float[] v, int edges, float x, float y, float dx, float dy, Vector2 normal) {
+        float fraction = -1f;
+        for (int i = 0; i < edges; i += 2) {
+            float x1 = v[i];
+            float y1 = v[i + 1];
+            float ex = v[(i + 2) % v.length] - x1;
+            float ey = v[(i + 3) % v.length] - y1;
+            float denominator = dx * ey - dy * ex;
+            if (denominator == 0f) {
+                continue;
+            }
+            float wx = x1 - x;
+            float wy = y1 - y;
+            float t = (wx * ey - wy * ex) / denominator;
+            float u = (wx * dy - wy * dx) / denominator;
+            if (t < 0f || t > 1f || u < 0f || u > 1f || (fraction >= 0f && t >= fraction)) {
+                continue;
+            }
+            fraction = t;
+            normal.set(-ey, ex).nor();
+            if (normal.x * dx + normal.y * dy > 0f) {
+                normal.scl(-1f);
+            }
+        }
+        return fraction;
+    }
+
     /**
      * Returns if the two lines intersect, and sets the intersection if so.
      *
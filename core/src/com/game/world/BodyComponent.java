@@ -6,6 +6,7 @@ import com.game.Component;
 import com.game.utils.interfaces.Updatable;
 import com.game.utils.enums.Direction;
 import com.game.utils.UtilMethods;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -44,6 +45,45 @@ public class BodyComponent extends Component {
     private Updatable postProcess;
     private boolean gravityOn = true;
     private boolean affectedByResistance = true;
+    // swept against static bodies each step so that it cannot tunnel through them, see WorldSystem
+    private boolean bullet;
+
+    @Getter(AccessLevel.PACKAGE)
+    @Setter(AccessLevel.PACKAGE)
+    private SpatialHash.Proxy<BodyComponent> broadphaseProxy;
+
+    @Setter(AccessLevel.NONE)
+    private boolean asleep;
+    @Getter(AccessLevel.PACKAGE)
+    @Setter(AccessLevel.PACKAGE)
+    private int restSteps;
+    @Getter(AccessLevel.PACKAGE)
+    @Setter(AccessLevel.PACKAGE)
+    private int sleepMark;
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private final Vector2 restPosition = new Vector2();
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private final Vector2 restVelocity = new Vector2();
+    @Getter(AccessLevel.PACKAGE)
+    @Setter(AccessLevel.NONE)
+    private final Vector2 stepStartPosition = new Vector2();
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private final Vector2 stepStartVelocity = new Vector2();
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private final Vector2 stepEndPosition = new Vector2();
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private boolean stepped;
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private float restGravity;
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private boolean restGravityOn;
 
     /**
      * Instantiates a new Body Component with the given {@link BodyType} value.
@@ -357,6 +397,9 @@ public class BodyComponent extends Component {
      */
     public void translateVelocity(float x, float y) {
         velocity.add(x, y);
+        if (x != 0f || y != 0f) {
+            wakeUp();
+        }
     }
 
     /**
@@ -521,6 +564,7 @@ public class BodyComponent extends Component {
      */
     public void addFixture(Fixture fixture) {
         fixtures.add(fixture);
+        wakeUp();
     }
 
     /**
@@ -553,6 +597,112 @@ public class BodyComponent extends Component {
         return fixtures.stream().filter(Fixture::isActive).toList();
     }
 
+    /**
+     * Resets the motion state pairOf this body so that it can be reused by a pooled entity. Velocity is zeroed,
+     * resistance is set back to one, and all body senses and collision flags are cleared. Configuration such as size,
+     * fixtures, gravity, and clamp is kept.
+     */
+    public void resetMotionState() {
+        wakeUp();
+        velocity.setZero();
+        resistance.set(1f, 1f);
+        bodySenses.clear();
+        collisionFlags.replaceAll((direction, flag) -> false);
+    }
+
+    /**
+     * Wakes this body if it is asleep, see {@link #isAsleep()}.
+     */
+    public void wakeUp() {
+        asleep = false;
+        restSteps = 0;
+    }
+
+    /**
+     * Returns if this body is asleep. A sleeping body is not integrated by {@link WorldSystem} until it is woken, either
+     * by {@link #wakeUp()}, by a force applied through {@link #translateVelocity(float, float)}, by a fixture being
+     * added or activated, by a contact beginning or ending, or by the world system noticing that its position,
+     * velocity, gravity, or fixture bounds changed. Only {@link BodyType#DYNAMIC} bodies fall asleep.
+     *
+     * @return if asleep
+     */
+    public boolean isAsleep() {
+        return asleep;
+    }
+
+    /**
+     * Puts this body to sleep and remembers the state it is resting in.
+     */
+    void fallAsleep() {
+        asleep = true;
+        restPosition.set(collisionBox.x, collisionBox.y);
+        restVelocity.set(velocity);
+        restGravity = gravity;
+        restGravityOn = gravityOn;
+    }
+
+    /**
+     * Returns if the position, velocity, or gravity pairOf this body differs from the state it fell asleep in.
+     *
+     * @return if the rest state is disturbed
+     */
+    boolean isRestDisturbed() {
+        return collisionBox.x != restPosition.x || collisionBox.y != restPosition.y ||
+                !velocity.equals(restVelocity) || gravity != restGravity || gravityOn != restGravityOn;
+    }
+
+    /**
+     * Remembers the position and velocity pairOf this body at the start pairOf a step, see
+     * {@link #isRestingSinceStepStart(float, float)}.
+     */
+    void markStepStart() {
+        stepStartPosition.set(collisionBox.x, collisionBox.y);
+        stepStartVelocity.set(velocity);
+    }
+
+    /**
+     * Returns if neither the position nor the velocity pairOf this body changed by more than the thresholds since
+     * {@link #markStepStart()}.
+     *
+     * @param maxPositionDelta the max position delta
+     * @param maxVelocityDelta the max velocity delta
+     * @return if resting
+     */
+    boolean isRestingSinceStepStart(float maxPositionDelta, float maxVelocityDelta) {
+        return Math.abs(collisionBox.x - stepStartPosition.x) <= maxPositionDelta &&
+                Math.abs(collisionBox.y - stepStartPosition.y) <= maxPositionDelta &&
+                Math.abs(velocity.x - stepStartVelocity.x) <= maxVelocityDelta &&
+                Math.abs(velocity.y - stepStartVelocity.y) <= maxVelocityDelta;
+    }
+
+    /**
+     * Remembers the position pairOf this body at the end pairOf the last step pairOf an update, see
+     * {@link #getInterpolatedCollisionBox(float, Rectangle)}.
+     */
+    void markStepEnd() {
+        stepEndPosition.set(collisionBox.x, collisionBox.y);
+        stepped = true;
+    }
+
+    /**
+     * Sets the rectangle to the collision box pairOf this body interpolated between its position at the start and at
+     * the end pairOf the last step. If the body has not been stepped, or has been moved since the last step, then the
+     * rectangle is set to the collision box as is.
+     *
+     * @param alpha the fraction pairOf a step elapsed since the last step, see
+     *              {@link WorldSystem#getInterpolationAlpha()}
+     * @param out   the rectangle to set
+     * @return the rectangle
+     */
+    public Rectangle getInterpolatedCollisionBox(float alpha, Rectangle out) {
+        out.set(collisionBox);
+        if (stepped && collisionBox.x == stepEndPosition.x && collisionBox.y == stepEndPosition.y) {
+            out.setPosition(stepStartPosition.x + (collisionBox.x - stepStartPosition.x) * alpha,
+                    stepStartPosition.y + (collisionBox.y - stepStartPosition.y) * alpha);
+        }
+        return out;
+    }
+
     /**
      * Set prior collision box to current.
      */
@@ -0,0 +1,183 @@
+package com.game.world;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.Vector2;
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static java.lang.Math.*;
+
+/**
+ * Packed struct-pairOf-arrays store pairOf the integration state pairOf {@link BodyComponent} instances. Position,
+ * velocity, gravity, clamp, and resistance are held in parallel float arrays and the boolean integration settings are
+ * packed into an int flags array, so that {@link WorldSystem} integrates all dynamic bodies in one tight loop over
+ * the arrays instead pairOf chasing each body and its vectors.
+ * <p>
+ * {@link BodyComponent} remains the source pairOf truth between steps, since collision handling and game logic read
+ * and write the bodies directly. Each fixed step therefore gathers the state pairOf the bodies into the store with
+ * {@link #load(List)}, integrates the arrays with {@link #integrate(float, float, Vector2)}, and scatters position,
+ * velocity, and resistance back to the bodies with {@link #store()}.
+ */
+public class BodyStore {
+
+    private static final int GRAVITY_ON = 1;
+    private static final int AFFECTED_BY_RESISTANCE = 1 << 1;
+
+    private BodyComponent[] bodies;
+    private float[] x;
+    private float[] y;
+    private float[] velocityX;
+    private float[] velocityY;
+    private float[] gravity;
+    private float[] clampX;
+    private float[] clampY;
+    private float[] resistanceX;
+    private float[] resistanceY;
+    private int[] flags;
+
+    @Getter
+    private int size;
+
+    /**
+     * Instantiates a new body store.
+     *
+     * @param initialCapacity the initial number pairOf bodies the store can hold before growing
+     */
+    public BodyStore(int initialCapacity) {
+        allocate(max(initialCapacity, 1));
+    }
+
+    /**
+     * Clears this store and gathers the integration state pairOf each body into it.
+     *
+     * @param bodyComponents the bodies to load
+     */
+    public void load(List<BodyComponent> bodyComponents) {
+        clear();
+        if (bodyComponents.size() > bodies.length) {
+            grow(bodyComponents.size());
+        }
+        for (int i = 0; i < bodyComponents.size(); i++) {
+            BodyComponent bodyComponent = bodyComponents.get(i);
+            Rectangle collisionBox = bodyComponent.getCollisionBox();
+            Vector2 velocity = bodyComponent.getVelocity();
+            Vector2 clamp = bodyComponent.getClamp();
+            Vector2 resistance = bodyComponent.getResistance();
+            bodies[i] = bodyComponent;
+            x[i] = collisionBox.x;
+            y[i] = collisionBox.y;
+            velocityX[i] = velocity.x;
+            velocityY[i] = velocity.y;
+            gravity[i] = bodyComponent.getGravity();
+            clampX[i] = abs(clamp.x);
+            clampY[i] = abs(clamp.y);
+            resistanceX[i] = resistance.x;
+            resistanceY[i] = resistance.y;
+            int f = 0;
+            if (bodyComponent.isGravityOn()) {
+                f |= GRAVITY_ON;
+            }
+            if (bodyComponent.isAffectedByResistance()) {
+                f |= AFFECTED_BY_RESISTANCE;
+            }
+            flags[i] = f;
+        }
+        size = bodyComponents.size();
+    }
+
+    /**
+     * Runs one fixed step pairOf integration over every loaded body: zeroes velocities below the threshold, applies
+     * resistance, resets resistance to the air resistance, applies gravity, clamps velocity, and translates. Only the
+     * arrays are touched, see {@link #store()}.
+     *
+     * @param fixedTimeStep the fixed time step
+     * @param minVelocity   the absolute velocity below which a velocity component is set to zero
+     * @param airResistance the air resistance
+     */
+    public void integrate(float fixedTimeStep, float minVelocity, Vector2 airResistance) {
+        float airResistanceX = airResistance.x;
+        float airResistanceY = airResistance.y;
+        for (int i = 0; i < size; i++) {
+            float vx = velocityX[i];
+            float vy = velocityY[i];
+            if (abs(vx) < minVelocity) {
+                vx = 0f;
+            }
+            if (abs(vy) < minVelocity) {
+                vy = 0f;
+            }
+            int f = flags[i];
+            if ((f & AFFECTED_BY_RESISTANCE) != 0) {
+                if (resistanceX[i] != 0f) {
+                    vx /= resistanceX[i];
+                }
+                if (resistanceY[i] != 0f) {
+                    vy /= resistanceY[i];
+                }
+            }
+            resistanceX[i] = airResistanceX;
+            resistanceY[i] = airResistanceY;
+            if ((f & GRAVITY_ON) != 0) {
+                vy += gravity[i];
+            }
+            vx = min(max(vx, -clampX[i]), clampX[i]);
+            vy = min(max(vy, -clampY[i]), clampY[i]);
+            velocityX[i] = vx;
+            velocityY[i] = vy;
+            x[i] += vx * fixedTimeStep;
+            y[i] += vy * fixedTimeStep;
+        }
+    }
+
+    /**
+     * Writes the position, velocity, and resistance pairOf each loaded body back to the body.
+     */
+    public void store() {
+        for (int i = 0; i < size; i++) {
+            BodyComponent bodyComponent = bodies[i];
+            bodyComponent.getCollisionBox().setPosition(x[i], y[i]);
+            bodyComponent.getVelocity().set(velocityX[i], velocityY[i]);
+            bodyComponent.getResistance().set(resistanceX[i], resistanceY[i]);
+        }
+    }
+
+    /**
+     * Releases the loaded bodies and empties this store.
+     */
+    public void clear() {
+        Arrays.fill(bodies, 0, size, null);
+        size = 0;
+    }
+
+    private void grow(int minCapacity) {
+        int capacity = max(minCapacity, bodies.length * 2);
+        bodies = Arrays.copyOf(bodies, capacity);
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+        velocityX = Arrays.copyOf(velocityX, capacity);
+        velocityY = Arrays.copyOf(velocityY, capacity);
+        gravity = Arrays.copyOf(gravity, capacity);
+        clampX = Arrays.copyOf(clampX, capacity);
+        clampY = Arrays.copyOf(clampY, capacity);
+        resistanceX = Arrays.copyOf(resistanceX, capacity);
+        resistanceY = Arrays.copyOf(resistanceY, capacity);
+        flags = Arrays.copyOf(flags, capacity);
+    }
+
+    private void allocate(int capacity) {
+        bodies = new BodyComponent[capacity];
+        x = new float[capacity];
+        y = new float[capacity];
+        velocityX = new float[capacity];
+        velocityY = new float[capacity];
+        gravity = new float[capacity];
+        clampX = new float[capacity];
+        clampY = new float[capacity];
+        resistanceX = new float[capacity];
+        resistanceY = new float[capacity];
+        flags = new int[capacity];
+    }
+
+}
@@ -3,7 +3,8 @@ package com.game.world;
 /**
  * Defines the body type pairOf {@link BodyComponent}.
  * <p>
- * STATIC: Are immovable, cannot be passed through by dynamic bodies.
+ * STATIC: Are immovable, cannot be passed through by dynamic bodies. Not integrated by {@link WorldSystem}, so they
+ * ignore velocity and gravity and only move when positioned directly.
  * DYNAMIC: Cannot pass through static bodies.
  * ABSTRACT: Can pass through static and dynamic bodies.
  */
@@ -4,8 +4,8 @@ import com.badlogic.gdx.math.Intersector;
 import com.badlogic.gdx.math.Rectangle;
 import com.game.entities.Entity;
 import com.game.utils.objects.Pair;
+import lombok.AccessLevel;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 
 /**
@@ -15,16 +15,38 @@ import lombok.ToString;
  * {@link #acceptMask(FixtureType, FixtureType)} returns if {@link Fixture#isFixtureType(FixtureType)} pairOf the two
  * fixtures matches the supplied {@link FixtureType} values. If the method returns true, then {@link #mask} is setBounds
  * with the two fixtures in the same order as the supplied FixtureType arguments. Otherwise, the mask pair remains null.
+ * <p>
+ * {@link WorldSystem} reuses one contact for every contact it handles, so a contact must not be kept by a
+ * {@link WorldContactListener} after the listener method returns.
  */
 @Getter
 @ToString
-@RequiredArgsConstructor
 public class Contact {
 
-    private final Fixture fixture1;
-    private final Fixture fixture2;
+    @Getter(AccessLevel.NONE)
+    @ToString.Exclude
+    private final Pair<Fixture> maskPair = new Pair<>(null, null);
+
+    private Fixture fixture1;
+    private Fixture fixture2;
     private Pair<Fixture> mask;
 
+    public Contact(Fixture fixture1, Fixture fixture2) {
+        set(fixture1, fixture2);
+    }
+
+    /**
+     * Sets the fixtures pairOf this contact and clears the mask.
+     *
+     * @param fixture1 the first fixture
+     * @param fixture2 the second fixture
+     */
+    void set(Fixture fixture1, Fixture fixture2) {
+        this.fixture1 = fixture1;
+        this.fixture2 = fixture2;
+        mask = null;
+    }
+
     /**
      * Checks if {@link Fixture#isFixtureType(FixtureType)} pairOf {@link #fixture1} and {@link #fixture2} matches the
      * supplied {@link FixtureType} arguments. If so, then return true and setBounds {@link #mask}, otherwise return
@@ -36,10 +58,10 @@ public class Contact {
      */
     public boolean acceptMask(FixtureType fixtureType1, FixtureType fixtureType2) {
         if (fixture1.isFixtureType(fixtureType1) && fixture2.isFixtureType(fixtureType2)) {
-            mask = new Pair<>(fixture1, fixture2);
+            setMask(fixture1, fixture2);
             return true;
         } else if (fixture2.isFixtureType(fixtureType1) && fixture1.isFixtureType(fixtureType2)) {
-            mask = new Pair<>(fixture2, fixture1);
+            setMask(fixture2, fixture1);
             return true;
         }
         return false;
@@ -55,10 +77,10 @@ public class Contact {
      */
     public boolean acceptMask(FixtureType fixtureType) {
         if (fixture1.isFixtureType(fixtureType)) {
-            mask = new Pair<>(fixture1, fixture2);
+            setMask(fixture1, fixture2);
             return true;
         } else if (fixture2.isFixtureType(fixtureType)) {
-            mask = new Pair<>(fixture2, fixture1);
+            setMask(fixture2, fixture1);
             return true;
         }
         return false;
@@ -118,6 +140,17 @@ public class Contact {
         return mask.getSecond();
     }
 
+    /**
+     * Sets the mask to the two fixtures pairOf this contact in the given order.
+     *
+     * @param first  the first masked fixture
+     * @param second the second masked fixture
+     */
+    void setMask(Fixture first, Fixture second) {
+        maskPair.set(first, second);
+        mask = maskPair;
+    }
+
     /**
      * Returns if the entities of the fixtures are different.
      *
@@ -0,0 +1,120 @@
+package com.game.world;
+
+import java.util.Arrays;
+import java.util.function.Predicate;
+
+/**
+ * Routes {@link Contact} instances to {@link ContactHandler} instances through a table indexed by the
+ * {@link FixtureType} pairOf each fixture. Handlers are registered for an ordered pair pairOf fixture types, or for one
+ * fixture type and any other, and are stored in the cells pairOf both orderings, so dispatching a contact only looks at
+ * the handlers registered for its two fixture types.
+ * <p>
+ * Before a handler is tried, the mask pairOf the contact is set so that its first fixture is the one matching the first
+ * registered fixture type, the same as {@link Contact#acceptMask(FixtureType, FixtureType)}. If more than one handler
+ * matches, then they are tried in registration order, and the first whose guard passes handles the contact.
+ */
+public class ContactDispatcher {
+
+    private static final FixtureType[] FIXTURE_TYPES = FixtureType.values();
+
+    private final Entry[][][] table = new Entry[FIXTURE_TYPES.length][FIXTURE_TYPES.length][];
+
+    /**
+     * Registers the handler for contacts between fixtures pairOf the two types.
+     *
+     * @param fixtureType1 the fixture type pairOf the first masked fixture
+     * @param fixtureType2 the fixture type pairOf the second masked fixture
+     * @param handler      the handler
+     * @return this dispatcher
+     */
+    public ContactDispatcher register(FixtureType fixtureType1, FixtureType fixtureType2, ContactHandler handler) {
+        return register(fixtureType1, fixtureType2, null, handler);
+    }
+
+    /**
+     * Registers the handler for contacts between fixtures pairOf the two types that pass the guard. If the guard does
+     * not pass, then the next handler registered for the fixture types is tried.
+     *
+     * @param fixtureType1 the fixture type pairOf the first masked fixture
+     * @param fixtureType2 the fixture type pairOf the second masked fixture
+     * @param guard        the guard, tested after the mask is set, may be null
+     * @param handler      the handler
+     * @return this dispatcher
+     */
+    public ContactDispatcher register(FixtureType fixtureType1, FixtureType fixtureType2, Predicate<Contact> guard,
+                                      ContactHandler handler) {
+        add(fixtureType1, fixtureType2, new Entry(false, guard, handler));
+        if (fixtureType1 != fixtureType2) {
+            add(fixtureType2, fixtureType1, new Entry(true, guard, handler));
+        }
+        return this;
+    }
+
+    /**
+     * Registers the handler for contacts between a fixture pairOf the type and a fixture pairOf any type, the same as
+     * {@link Contact#acceptMask(FixtureType)}.
+     *
+     * @param fixtureType the fixture type pairOf the first masked fixture
+     * @param guard       the guard, tested after the mask is set, may be null
+     * @param handler     the handler
+     * @return this dispatcher
+     */
+    public ContactDispatcher registerAny(FixtureType fixtureType, Predicate<Contact> guard, ContactHandler handler) {
+        for (FixtureType other : FIXTURE_TYPES) {
+            register(fixtureType, other, guard, handler);
+        }
+        return this;
+    }
+
+    /**
+     * Returns if any handler is registered for contacts between fixtures pairOf the two types, in either order.
+     *
+     * @param fixtureType1 the first fixture type
+     * @param fixtureType2 the second fixture type
+     * @return if any handler is registered
+     */
+    public boolean handles(FixtureType fixtureType1, FixtureType fixtureType2) {
+        return table[fixtureType1.ordinal()][fixtureType2.ordinal()] != null;
+    }
+
+    /**
+     * Dispatches the contact to the first matching handler, if any.
+     *
+     * @param contact the contact
+     * @param delta   the delta time
+     */
+    public void dispatch(Contact contact, float delta) {
+        Fixture fixture1 = contact.getFixture1();
+        Fixture fixture2 = contact.getFixture2();
+        Entry[] entries = table[fixture1.getFixtureType().ordinal()][fixture2.getFixtureType().ordinal()];
+        if (entries == null) {
+            return;
+        }
+        for (Entry entry : entries) {
+            if (entry.swapped) {
+                contact.setMask(fixture2, fixture1);
+            } else {
+                contact.setMask(fixture1, fixture2);
+            }
+            if (entry.guard == null || entry.guard.test(contact)) {
+                entry.handler.handle(contact, delta);
+                return;
+            }
+        }
+    }
+
+    private void add(FixtureType fixtureType1, FixtureType fixtureType2, Entry entry) {
+        Entry[] entries = table[fixtureType1.ordinal()][fixtureType2.ordinal()];
+        if (entries == null) {
+            entries = new Entry[]{entry};
+        } else {
+            entries = Arrays.copyOf(entries, entries.length + 1);
+            entries[entries.length - 1] = entry;
+        }
+        table[fixtureType1.ordinal()][fixtureType2.ordinal()] = entries;
+    }
+
+    private record Entry(boolean swapped, Predicate<Contact> guard, ContactHandler handler) {
+    }
+
+}
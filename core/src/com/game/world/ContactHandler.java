@@ -0,0 +1,17 @@
+package com.game.world;
+
+/**
+ * Handles a {@link Contact} whose mask has been set by a {@link ContactDispatcher}.
+ */
+@FunctionalInterface
+public interface ContactHandler {
+
+    /**
+     * Handle the contact.
+     *
+     * @param contact the contact
+     * @param delta   the delta time
+     */
+    void handle(Contact contact, float delta);
+
+}
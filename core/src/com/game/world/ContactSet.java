@@ -0,0 +1,192 @@
+package com.game.world;
+
+import java.util.Arrays;
+
+import static java.lang.Math.max;
+
+/**
+ * Open-addressing set pairOf contacts keyed by {@link #key(Fixture, Fixture)}, the packed ids pairOf the two fixtures.
+ * The fixtures are kept next to the key in the order they were first added, so that no {@link Contact} has to be
+ * allocated per contact; {@link WorldSystem} passes them to a reused contact when handling the contact.
+ * <p>
+ * {@link #clear()} only touches the slots in use, and {@link #sortedKeys()} returns the keys in ascending order so two
+ * sets can be diffed with a sorted merge.
+ */
+public class ContactSet {
+
+    private static final long EMPTY = 0L;
+
+    private long[] keys;
+    private Fixture[] fixtures1;
+    private Fixture[] fixtures2;
+    private int[] usedSlots;
+    private long[] sortedKeys;
+    private int mask;
+    private int size;
+
+    /**
+     * Instantiates a new contact set.
+     *
+     * @param initialCapacity the initial number pairOf contacts the set can hold before growing
+     */
+    public ContactSet(int initialCapacity) {
+        allocate(Integer.highestOneBit(max(initialCapacity, 8) - 1) << 2);
+    }
+
+    /**
+     * Returns the key pairOf the contact between the two fixtures. The key is the same regardless pairOf the order pairOf
+     * the fixtures, and is never zero.
+     *
+     * @param fixture1 the first fixture
+     * @param fixture2 the second fixture
+     * @return the key
+     */
+    public static long key(Fixture fixture1, Fixture fixture2) {
+        int id1 = fixture1.getId();
+        int id2 = fixture2.getId();
+        return id1 < id2 ? ((long) id1 << 32) | id2 : ((long) id2 << 32) | id1;
+    }
+
+    /**
+     * Adds the contact between the two fixtures if not already contained.
+     *
+     * @param fixture1 the first fixture
+     * @param fixture2 the second fixture
+     * @return if the contact was added
+     */
+    public boolean add(Fixture fixture1, Fixture fixture2) {
+        long key = key(fixture1, fixture2);
+        int slot = slotOf(key);
+        if (keys[slot] == key) {
+            return false;
+        }
+        keys[slot] = key;
+        fixtures1[slot] = fixture1;
+        fixtures2[slot] = fixture2;
+        usedSlots[size++] = slot;
+        // keep the load factor at or below one half
+        if (size << 1 > keys.length) {
+            rehash(keys.length << 1);
+        }
+        return true;
+    }
+
+    /**
+     * Returns the slot pairOf the key, or -1 if the key is not contained.
+     *
+     * @param key the key
+     * @return the slot
+     */
+    public int indexOf(long key) {
+        int slot = slotOf(key);
+        return keys[slot] == key ? slot : -1;
+    }
+
+    /**
+     * Returns the first fixture pairOf the contact in the slot, in the order the fixtures were added.
+     *
+     * @param slot the slot
+     * @return the first fixture
+     */
+    public Fixture getFixture1(int slot) {
+        return fixtures1[slot];
+    }
+
+    /**
+     * Returns the second fixture pairOf the contact in the slot, in the order the fixtures were added.
+     *
+     * @param slot the slot
+     * @return the second fixture
+     */
+    public Fixture getFixture2(int slot) {
+        return fixtures2[slot];
+    }
+
+    /**
+     * Returns the slot pairOf the contact added at the index, in the order the contacts were added.
+     *
+     * @param index the index, from zero to {@link #size()} exclusive
+     * @return the slot
+     */
+    public int slotAt(int index) {
+        return usedSlots[index];
+    }
+
+    /**
+     * Returns the number pairOf contacts.
+     *
+     * @return the number pairOf contacts
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Sorts the keys pairOf the contacts in ascending order. The returned array is reused by this set and is only valid
+     * until this set is changed; its first {@link #size()} elements are the keys.
+     *
+     * @return the sorted keys
+     */
+    public long[] sortedKeys() {
+        for (int i = 0; i < size; i++) {
+            sortedKeys[i] = keys[usedSlots[i]];
+        }
+        Arrays.sort(sortedKeys, 0, size);
+        return sortedKeys;
+    }
+
+    /**
+     * Removes all contacts and releases the fixtures.
+     */
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            int slot = usedSlots[i];
+            keys[slot] = EMPTY;
+            fixtures1[slot] = null;
+            fixtures2[slot] = null;
+        }
+        size = 0;
+    }
+
+    private int slotOf(long key) {
+        int slot = hash(key) & mask;
+        while (keys[slot] != EMPTY && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private static int hash(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    private void rehash(int capacity) {
+        long[] oldKeys = keys;
+        Fixture[] oldFixtures1 = fixtures1;
+        Fixture[] oldFixtures2 = fixtures2;
+        int[] oldUsedSlots = usedSlots;
+        int oldSize = size;
+        allocate(capacity);
+        // re-add in insertion order so that the used slots keep their order
+        for (int i = 0; i < oldSize; i++) {
+            int oldSlot = oldUsedSlots[i];
+            int slot = slotOf(oldKeys[oldSlot]);
+            keys[slot] = oldKeys[oldSlot];
+            fixtures1[slot] = oldFixtures1[oldSlot];
+            fixtures2[slot] = oldFixtures2[oldSlot];
+            usedSlots[size++] = slot;
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        fixtures1 = new Fixture[capacity];
+        fixtures2 = new Fixture[capacity];
+        usedSlots = new int[capacity];
+        sortedKeys = new long[capacity];
+        mask = capacity - 1;
+        size = 0;
+    }
+
+}
@@ -1,34 +1,109 @@
 package com.game.world;
 
 import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Shape2D;
 import com.badlogic.gdx.math.Vector2;
 import com.game.entities.Entity;
+import com.game.shapes.ShapeKind;
+import com.game.utils.ShapeUtils;
+import lombok.AccessLevel;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 import lombok.Setter;
 
 import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static com.badlogic.gdx.graphics.Color.*;
 
 /**
- * Defines a fixture sensor attached to a body. Offset is from the center pairOf the body.
+ * Defines a fixture sensor attached to a body. Offset is from the center pairOf the body. Each fixture has a unique
+ * positive id for its lifetime, see {@link ContactSet#key(Fixture, Fixture)}.
+ * <p>
+ * The {@link ShapeKind} pairOf the fixture shape is resolved once on construction, where shapes pairOf no supported
+ * kind are rejected, and the axis-aligned bounds pairOf the shape are cached whenever {@link WorldSystem} moves the
+ * shape, so neither is worked out again per pair.
+ * <p>
+ * Two fixtures can only be in contact if the category bits pairOf each share a bit with the mask bits pairOf the other.
+ * The category bits default to the bit pairOf the fixture type, and the mask bits default to every bit; on top pairOf
+ * that, {@link WorldSystem} masks out the fixture types that the {@link WorldContactListener} does not handle.
  */
 @Getter
 @Setter
-@RequiredArgsConstructor
 public class Fixture {
 
+    /**
+     * Mask bits matching every category.
+     */
+    public static final long ALL_BITS = -1L;
+
+    private static final AtomicInteger NEXT_ID = new AtomicInteger(1);
+
+    private final int id = NEXT_ID.getAndIncrement();
     private final Entity entity;
     private final Shape2D fixtureShape;
     private final FixtureType fixtureType;
+    private final ShapeKind shapeKind;
+    private final Rectangle bounds = new Rectangle();
     private final Vector2 offset = new Vector2();
     private final Map<String, Object> userData = new HashMap<>();
 
+    private long categoryBits;
+    private long maskBits = ALL_BITS;
     private boolean active = true;
     private Color debugColor = YELLOW;
 
+    @Getter(AccessLevel.PACKAGE)
+    @Setter(AccessLevel.PACKAGE)
+    private SpatialHash.Proxy<Fixture> broadphaseProxy;
+
+    /**
+     * Instantiates a new fixture.
+     *
+     * @param entity       the entity
+     * @param fixtureShape the fixture shape
+     * @param fixtureType  the fixture type
+     * @throws IllegalArgumentException if the shape is not one pairOf the supported kinds, i.e. is
+     *                                  {@link ShapeKind#OTHER}
+     */
+    public Fixture(Entity entity, Shape2D fixtureShape, FixtureType fixtureType) {
+        shapeKind = ShapeKind.of(fixtureShape);
+        if (shapeKind == ShapeKind.OTHER) {
+            throw new IllegalArgumentException("Unsupported fixture shape: " + fixtureShape);
+        }
+        this.entity = entity;
+        this.fixtureShape = fixtureShape;
+        this.fixtureType = fixtureType;
+        categoryBits = categoryBitOf(fixtureType);
+    }
+
+    /**
+     * Returns the default category bit pairOf fixtures pairOf the type.
+     *
+     * @param fixtureType the fixture type
+     * @return the category bit
+     */
+    public static long categoryBitOf(FixtureType fixtureType) {
+        return 1L << fixtureType.ordinal();
+    }
+
+    /**
+     * Sets if this fixture is active. Activating the fixture wakes the body it is attached to, see
+     * {@link BodyComponent#wakeUp()}, so that the contacts pairOf the fixture are tested on the next update the same as
+     * for a fixture just added to the body.
+     *
+     * @param active if active
+     */
+    public void setActive(boolean active) {
+        if (active && !this.active) {
+            BodyComponent bodyComponent = entity.getComponent(BodyComponent.class);
+            if (bodyComponent != null) {
+                bodyComponent.wakeUp();
+            }
+        }
+        this.active = active;
+    }
+
     public boolean isFixtureType(FixtureType fixtureType) {
         return this.fixtureType.equals(fixtureType);
     }
@@ -84,6 +159,15 @@ public class Fixture {
         return userData.containsKey(key);
     }
 
+    /**
+     * Updates the cached bounds to the current bounds pairOf the fixture shape.
+     *
+     * @return the bounds
+     */
+    Rectangle updateBounds() {
+        return ShapeUtils.setBounds(shapeKind, fixtureShape, bounds);
+    }
+
     /**
      * Set offset.
      *
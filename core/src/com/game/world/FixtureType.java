@@ -24,7 +24,6 @@ public enum FixtureType {
     WALL_SLIDE_SENSOR,
     BOUNCER,
     BOUNCEABLE,
-    LASER,
     SCANNER,
     GATE_LISTENER,
     CUSTOM
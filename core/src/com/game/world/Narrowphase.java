@@ -0,0 +1,191 @@
+package com.game.world;
+
+import com.badlogic.gdx.math.Polyline;
+import com.game.shapes.custom.Triangle;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import static com.game.utils.ShapeUtils.overlap;
+
+/**
+ * Tests the shapes pairOf candidate fixture pairs for overlap. Pairs are added in the order the broadphase found them,
+ * then tested together by {@link #test()}, in chunks on a work-stealing pool when there are enough pairs, and the
+ * results are read back by index, so the caller sees the overlapping pairs in the same order regardless pairOf how
+ * the pairs were split.
+ * <p>
+ * Shapes are tested by the {@link com.game.utils.ShapeUtils} overlap routine picked by the shape kinds cached by the
+ * fixtures. The tests only read fixture shapes, except that a {@link Polyline} or {@link Triangle} computes its
+ * transformed vertices lazily; these are computed when the pair is added, on the calling thread, so that the tests
+ * never write shared state. Testing on the pool is opt-in, see {@link #setParallel(boolean)}.
+ */
+public class Narrowphase {
+
+    /**
+     * The number pairOf pairs tested by one pool task.
+     */
+    public static final int CHUNK_SIZE = 64;
+
+    private final List<ChunkTask> chunkTasks = new ArrayList<>();
+    private final ForkJoinPool pool;
+
+    private Fixture[] fixtures1 = new Fixture[256];
+    private Fixture[] fixtures2 = new Fixture[256];
+    private boolean[] overlaps = new boolean[256];
+    private int size;
+    private boolean parallel;
+
+    /**
+     * Instantiates a new narrowphase that forks onto the common pool.
+     */
+    public Narrowphase() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Instantiates a new narrowphase.
+     *
+     * @param pool the pool to fork chunks onto
+     */
+    public Narrowphase(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * Sets if chunks are tested on the pool. If false, then all pairs are tested on the calling thread. False by
+     * default, since testing on the pool is only safe while every overlap routine it can reach is free pairOf shared
+     * state, such as the static temporaries used by {@link com.badlogic.gdx.math.Intersector}.
+     *
+     * @param parallel if chunks are tested on the pool
+     */
+    public void setParallel(boolean parallel) {
+        this.parallel = parallel;
+    }
+
+    /**
+     * Adds the candidate pair.
+     *
+     * @param fixture1 the first fixture
+     * @param fixture2 the second fixture
+     */
+    public void add(Fixture fixture1, Fixture fixture2) {
+        if (size == fixtures1.length) {
+            fixtures1 = Arrays.copyOf(fixtures1, size * 2);
+            fixtures2 = Arrays.copyOf(fixtures2, size * 2);
+            overlaps = Arrays.copyOf(overlaps, size * 2);
+        }
+        prepare(fixture1);
+        prepare(fixture2);
+        fixtures1[size] = fixture1;
+        fixtures2[size] = fixture2;
+        size++;
+    }
+
+    /**
+     * Tests every added pair. Only pairs pairOf more than one chunk are forked onto the pool; one chunk is always
+     * tested on the calling thread.
+     */
+    public void test() {
+        int chunks = (size + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        if (!parallel || chunks < 2) {
+            test(0, size);
+            return;
+        }
+        while (chunkTasks.size() < chunks) {
+            chunkTasks.add(new ChunkTask());
+        }
+        for (int i = 1; i < chunks; i++) {
+            ChunkTask task = chunkTasks.get(i);
+            task.reinitialize();
+            task.from = i * CHUNK_SIZE;
+            task.to = Math.min(task.from + CHUNK_SIZE, size);
+            pool.execute(task);
+        }
+        test(0, CHUNK_SIZE);
+        for (int i = 1; i < chunks; i++) {
+            chunkTasks.get(i).join();
+        }
+    }
+
+    /**
+     * Returns the number pairOf added pairs.
+     *
+     * @return the number pairOf pairs
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the first fixture pairOf the pair at the index.
+     *
+     * @param index the index
+     * @return the first fixture
+     */
+    public Fixture getFixture1(int index) {
+        return fixtures1[index];
+    }
+
+    /**
+     * Returns the second fixture pairOf the pair at the index.
+     *
+     * @param index the index
+     * @return the second fixture
+     */
+    public Fixture getFixture2(int index) {
+        return fixtures2[index];
+    }
+
+    /**
+     * Returns if the shapes pairOf the pair at the index overlapped when last tested.
+     *
+     * @param index the index
+     * @return if the shapes overlap
+     */
+    public boolean overlaps(int index) {
+        return overlaps[index];
+    }
+
+    /**
+     * Removes all pairs and releases the fixtures.
+     */
+    public void clear() {
+        Arrays.fill(fixtures1, 0, size, null);
+        Arrays.fill(fixtures2, 0, size, null);
+        size = 0;
+    }
+
+    private void test(int from, int to) {
+        for (int i = from; i < to; i++) {
+            Fixture fixture1 = fixtures1[i];
+            Fixture fixture2 = fixtures2[i];
+            overlaps[i] = overlap(fixture1.getShapeKind(), fixture1.getFixtureShape(), fixture2.getShapeKind(),
+                    fixture2.getFixtureShape());
+        }
+    }
+
+    private static void prepare(Fixture fixture) {
+        switch (fixture.getShapeKind()) {
+            case POLYLINE -> ((Polyline) fixture.getFixtureShape()).getTransformedVertices();
+            case TRIANGLE -> ((Triangle) fixture.getFixtureShape()).getTransformedVertices();
+        }
+    }
+
+    private class ChunkTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private int from;
+        private int to;
+
+        @Override
+        protected void compute() {
+            test(from, to);
+        }
+
+    }
+
+}
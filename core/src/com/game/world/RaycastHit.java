@@ -0,0 +1,45 @@
+package com.game.world;
+
+import com.badlogic.gdx.math.Vector2;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * The first {@link Fixture} hit by a ray cast with
+ * {@link WorldSystem#raycast(Vector2, Vector2, java.util.function.Predicate, RaycastHit)}. The point and normal
+ * vectors are owned by the hit and are set in place, so one hit can be reused for every cast; copy them if they must
+ * outlive the next cast.
+ */
+@Getter
+@ToString
+public class RaycastHit {
+
+    private final Vector2 point = new Vector2();
+    private final Vector2 normal = new Vector2();
+
+    private Fixture fixture;
+    private float fraction = -1f;
+
+    /**
+     * Returns if the last cast hit a fixture.
+     *
+     * @return if hit
+     */
+    public boolean isHit() {
+        return fixture != null;
+    }
+
+    void set(Fixture fixture, float fraction, float x, float y) {
+        this.fixture = fixture;
+        this.fraction = fraction;
+        point.set(x, y);
+    }
+
+    void clear() {
+        fixture = null;
+        fraction = -1f;
+        point.setZero();
+        normal.setZero();
+    }
+
+}
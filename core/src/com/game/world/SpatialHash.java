@@ -0,0 +1,294 @@
+package com.game.world;
+
+import com.badlogic.gdx.math.Rectangle;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+
+/**
+ * Persistent broadphase over a fixed grid pairOf square cells. Each object is tracked by a {@link Proxy} that remembers
+ * the range pairOf cells the object was last inserted into. {@link #update(Proxy, Rectangle)} only touches the cells
+ * when that range changes, so objects that stay put, such as static bodies, are inserted once and left alone.
+ * <p>
+ * Cell ranges are clamped to the grid the same way as {@link com.game.graph.Graph}: objects partly outside the grid
+ * are kept in the border cells, and objects fully outside it are in no cell.
+ * <p>
+ * Candidate pairs are emitted once per pass: after {@link #beginPass()}, {@link #queryPairs(Proxy, List)} returns
+ * the distinct objects sharing a cell with the proxy, skipping objects whose proxies have already been queried in the
+ * pass, since their pair with the proxy has already been emitted.
+ * <p>
+ * {@link #getCellVisits()} counts the cells touched by inserts, removals, and queries since this spatial hash was
+ * created.
+ *
+ * @param <T> the type pairOf the tracked objects
+ */
+public class SpatialHash<T> {
+
+    private final float cellSize;
+    private final int columns;
+    private final int rows;
+    private final List<Proxy<T>>[] cells;
+    private final List<Proxy<T>> proxies = new ArrayList<>();
+
+    private int pass;
+    private int queryMark;
+    @Getter
+    private long cellVisits;
+
+    /**
+     * Instantiates a new spatial hash.
+     *
+     * @param cellSize the width and height pairOf each cell
+     * @param columns  the number pairOf columns
+     * @param rows     the number pairOf rows
+     */
+    public SpatialHash(float cellSize, int columns, int rows) {
+        this.cellSize = cellSize;
+        this.columns = max(columns, 1);
+        this.rows = max(rows, 1);
+        @SuppressWarnings("unchecked")
+        List<Proxy<T>>[] cells = (List<Proxy<T>>[]) new List<?>[this.columns * this.rows];
+        this.cells = cells;
+    }
+
+    /**
+     * Creates a proxy for the object. The proxy is not in any cell until it is updated.
+     *
+     * @param obj the object
+     * @return the proxy
+     */
+    public Proxy<T> createProxy(T obj) {
+        Proxy<T> proxy = new Proxy<>(this, obj);
+        proxy.index = proxies.size();
+        proxies.add(proxy);
+        return proxy;
+    }
+
+    /**
+     * Returns if the proxy was created by this spatial hash and has not been destroyed.
+     *
+     * @param proxy the proxy, may be null
+     * @return if the proxy is live in this spatial hash
+     */
+    public boolean owns(Proxy<T> proxy) {
+        return proxy != null && proxy.owner == this && proxy.index >= 0;
+    }
+
+    /**
+     * Moves the proxy into the cells overlapped by the bounds. Does nothing if the range pairOf cells is unchanged.
+     *
+     * @param proxy  the proxy
+     * @param bounds the bounds pairOf the object
+     * @return if the proxy changed cells
+     */
+    public boolean update(Proxy<T> proxy, Rectangle bounds) {
+        int minX = max(0, (int) (bounds.x / cellSize));
+        int minY = max(0, (int) (bounds.y / cellSize));
+        int maxX = min(columns - 1, (int) ((bounds.x + bounds.width) / cellSize));
+        int maxY = min(rows - 1, (int) ((bounds.y + bounds.height) / cellSize));
+        if (proxy.inserted && minX == proxy.minX && minY == proxy.minY && maxX == proxy.maxX &&
+                maxY == proxy.maxY) {
+            return false;
+        }
+        removeFromCells(proxy);
+        proxy.minX = minX;
+        proxy.minY = minY;
+        proxy.maxX = maxX;
+        proxy.maxY = maxY;
+        proxy.inserted = true;
+        countCellVisits(minX, minY, maxX, maxY);
+        for (int i = minX; i <= maxX; i++) {
+            for (int j = minY; j <= maxY; j++) {
+                int cellIndex = i * rows + j;
+                List<Proxy<T>> cell = cells[cellIndex];
+                if (cell == null) {
+                    cell = new ArrayList<>(4);
+                    cells[cellIndex] = cell;
+                }
+                cell.add(proxy);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Removes the proxy from all cells. The proxy stays live and can be updated again.
+     *
+     * @param proxy the proxy
+     */
+    public void removeFromCells(Proxy<T> proxy) {
+        if (!proxy.inserted) {
+            return;
+        }
+        countCellVisits(proxy.minX, proxy.minY, proxy.maxX, proxy.maxY);
+        for (int i = proxy.minX; i <= proxy.maxX; i++) {
+            for (int j = proxy.minY; j <= proxy.maxY; j++) {
+                List<Proxy<T>> cell = cells[i * rows + j];
+                int last = cell.size() - 1;
+                int index = cell.indexOf(proxy);
+                cell.set(index, cell.get(last));
+                cell.remove(last);
+            }
+        }
+        proxy.inserted = false;
+    }
+
+    /**
+     * Removes the proxy from all cells and from this spatial hash.
+     *
+     * @param proxy the proxy
+     */
+    public void destroyProxy(Proxy<T> proxy) {
+        removeFromCells(proxy);
+        int last = proxies.size() - 1;
+        Proxy<T> moved = proxies.get(last);
+        proxies.set(proxy.index, moved);
+        moved.index = proxy.index;
+        proxies.remove(last);
+        proxy.index = -1;
+    }
+
+    /**
+     * Destroys every proxy whose {@link Proxy#getSeenMark()} is not the mark, and returns the objects pairOf the
+     * destroyed proxies through the list.
+     *
+     * @param seenMark  the mark pairOf live proxies
+     * @param destroyed the list the objects pairOf the destroyed proxies are added to
+     */
+    public void destroyUnseen(int seenMark, List<T> destroyed) {
+        for (int i = proxies.size() - 1; i >= 0; i--) {
+            Proxy<T> proxy = proxies.get(i);
+            if (proxy.seenMark != seenMark) {
+                destroyed.add(proxy.obj);
+                destroyProxy(proxy);
+            }
+        }
+    }
+
+    /**
+     * Starts a new pass pairOf pair emission, see {@link SpatialHash}.
+     */
+    public void beginPass() {
+        pass++;
+    }
+
+    /**
+     * Adds to the list each distinct object sharing a cell with the proxy whose proxy has not been queried in this
+     * pass, then marks the proxy as queried. The proxy's own object is never added.
+     *
+     * @param proxy      the proxy
+     * @param candidates the list the candidates are added to
+     */
+    public void queryPairs(Proxy<T> proxy, List<T> candidates) {
+        proxy.pass = pass;
+        if (!proxy.inserted) {
+            return;
+        }
+        int mark = ++queryMark;
+        proxy.queryMark = mark;
+        countCellVisits(proxy.minX, proxy.minY, proxy.maxX, proxy.maxY);
+        for (int i = proxy.minX; i <= proxy.maxX; i++) {
+            for (int j = proxy.minY; j <= proxy.maxY; j++) {
+                List<Proxy<T>> cell = cells[i * rows + j];
+                for (int k = 0; k < cell.size(); k++) {
+                    Proxy<T> other = cell.get(k);
+                    if (other.queryMark == mark || other.pass == pass) {
+                        continue;
+                    }
+                    other.queryMark = mark;
+                    candidates.add(other.obj);
+                }
+            }
+        }
+    }
+
+    /**
+     * Adds to the list each distinct object in the cells overlapped by the bounds. Unlike
+     * {@link #queryPairs(Proxy, List)}, the pass is neither checked nor changed.
+     *
+     * @param bounds     the bounds
+     * @param candidates the list the candidates are added to
+     */
+    public void query(Rectangle bounds, List<T> candidates) {
+        int minX = max(0, (int) (bounds.x / cellSize));
+        int minY = max(0, (int) (bounds.y / cellSize));
+        int maxX = min(columns - 1, (int) ((bounds.x + bounds.width) / cellSize));
+        int maxY = min(rows - 1, (int) ((bounds.y + bounds.height) / cellSize));
+        int mark = ++queryMark;
+        countCellVisits(minX, minY, maxX, maxY);
+        for (int i = minX; i <= maxX; i++) {
+            for (int j = minY; j <= maxY; j++) {
+                List<Proxy<T>> cell = cells[i * rows + j];
+                if (cell == null) {
+                    continue;
+                }
+                for (int k = 0; k < cell.size(); k++) {
+                    Proxy<T> other = cell.get(k);
+                    if (other.queryMark == mark) {
+                        continue;
+                    }
+                    other.queryMark = mark;
+                    candidates.add(other.obj);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the number pairOf live proxies.
+     *
+     * @return the number pairOf live proxies
+     */
+    public int size() {
+        return proxies.size();
+    }
+
+    private void countCellVisits(int minX, int minY, int maxX, int maxY) {
+        if (maxX >= minX && maxY >= minY) {
+            cellVisits += (long) (maxX - minX + 1) * (maxY - minY + 1);
+        }
+    }
+
+    /**
+     * Handle pairOf an object in a {@link SpatialHash}.
+     *
+     * @param <T> the type pairOf the object
+     */
+    public static class Proxy<T> {
+
+        private final SpatialHash<T> owner;
+        @Getter
+        private final T obj;
+
+        private int index;
+        private boolean inserted;
+        private int minX;
+        private int minY;
+        private int maxX;
+        private int maxY;
+        private int pass;
+        private int queryMark;
+        @Getter
+        private int seenMark;
+
+        private Proxy(SpatialHash<T> owner, T obj) {
+            this.owner = owner;
+            this.obj = obj;
+        }
+
+        /**
+         * Marks this proxy as seen, see {@link SpatialHash#destroyUnseen(int, List)}.
+         *
+         * @param seenMark the mark
+         */
+        public void setSeenMark(int seenMark) {
+            this.seenMark = seenMark;
+        }
+
+    }
+
+}
@@ -5,6 +5,18 @@ package com.game.world;
  */
 public interface WorldContactListener {
 
+    /**
+     * Returns if contacts between fixtures pairOf the two types are handled in any phase. Contacts that are not handled
+     * are not tracked by {@link WorldSystem}. Returns true by default.
+     *
+     * @param fixtureType1 the first fixture type
+     * @param fixtureType2 the second fixture type
+     * @return if contacts between the fixture types are handled
+     */
+    default boolean handles(FixtureType fixtureType1, FixtureType fixtureType2) {
+        return true;
+    }
+
     /**
      * Begin contact.
      *
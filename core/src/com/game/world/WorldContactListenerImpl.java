@@ -1,7 +1,6 @@
 package com.game.world;
 
 import com.badlogic.gdx.audio.Sound;
-import com.badlogic.gdx.math.Polyline;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
 import com.game.GameContext2d;
@@ -16,12 +15,12 @@ import com.game.entities.projectiles.AbstractProjectile;
 import com.game.health.HealthComponent;
 import com.game.sounds.SoundComponent;
 import com.game.updatables.UpdatableComponent;
-import lombok.RequiredArgsConstructor;
 
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
 
 import static com.badlogic.gdx.math.Vector2.Zero;
@@ -32,35 +31,69 @@ import static com.game.assets.SoundAsset.SPLASH_SOUND;
 import static com.game.behaviors.BehaviorType.WALL_SLIDING;
 
 import static com.game.entities.megaman.AButtonTask.*;
-import static com.game.utils.ShapeUtils.intersectLineRect;
 import static com.game.world.BodySense.*;
 import static com.game.world.FixtureType.*;
 
-@RequiredArgsConstructor
+/**
+ * {@link WorldContactListener} implementation that routes each contact through one {@link ContactDispatcher} per
+ * contact phase. Fixture type pairs without a handler in any phase are reported as not handled, so
+ * {@link WorldSystem} does not track contacts between them.
+ */
 public class WorldContactListenerImpl implements WorldContactListener {
 
+    private static final Predicate<Contact> ENTITIES_DIFFERENT = Contact::areEntitiesDifferent;
+
     private final GameContext2d gameContext;
+    private final ContactDispatcher beginDispatcher = new ContactDispatcher();
+    private final ContactDispatcher continueDispatcher = new ContactDispatcher();
+    private final ContactDispatcher endDispatcher = new ContactDispatcher();
+
+    public WorldContactListenerImpl(GameContext2d gameContext) {
+        this.gameContext = gameContext;
+        registerBeginHandlers();
+        registerContinueHandlers();
+        registerEndHandlers();
+    }
+
+    @Override
+    public boolean handles(FixtureType fixtureType1, FixtureType fixtureType2) {
+        return beginDispatcher.handles(fixtureType1, fixtureType2) ||
+                continueDispatcher.handles(fixtureType1, fixtureType2) ||
+                endDispatcher.handles(fixtureType1, fixtureType2);
+    }
 
     @Override
-    @SuppressWarnings("unchecked")
     public void beginContact(Contact contact, float delta) {
-        if (contact.acceptMask(DAMAGEABLE, DEATH)) {
-            contact.mask1stEntity().getComponent(HealthComponent.class).setHealth(0);
-        } else if (contact.acceptMask(LEFT, BLOCK)) {
-            contact.mask1stBody().setIs(TOUCHING_BLOCK_LEFT);
-        } else if (contact.acceptMask(RIGHT, BLOCK)) {
-            contact.mask1stBody().setIs(TOUCHING_BLOCK_RIGHT);
-        } else if (contact.acceptMask(LEFT, WALL_SLIDE_SENSOR)) {
-            contact.mask1stBody().setIs(TOUCHING_WALL_SLIDE_LEFT);
-        } else if (contact.acceptMask(RIGHT, WALL_SLIDE_SENSOR)) {
-            contact.mask1stBody().setIs(TOUCHING_WALL_SLIDE_RIGHT);
-        } else if (contact.acceptMask(LEFT, DAMAGEABLE) &&
-                !contact.mask1stEntity().equals(contact.mask2ndEntity())) {
-            contact.mask1stBody().setIs(TOUCHING_HITBOX_LEFT);
-        } else if (contact.acceptMask(RIGHT, DAMAGEABLE) &&
-                !contact.mask1stEntity().equals(contact.mask2ndEntity())) {
-            contact.mask1stBody().setIs(TOUCHING_HITBOX_RIGHT);
-        } else if (contact.acceptMask(FEET, BLOCK)) {
+        beginDispatcher.dispatch(contact, delta);
+    }
+
+    @Override
+    public void continueContact(Contact contact, float delta) {
+        continueDispatcher.dispatch(contact, delta);
+    }
+
+    @Override
+    public void endContact(Contact contact, float delta) {
+        endDispatcher.dispatch(contact, delta);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void registerBeginHandlers() {
+        beginDispatcher.register(DAMAGEABLE, DEATH, (contact, delta) ->
+                contact.mask1stEntity().getComponent(HealthComponent.class).setHealth(0));
+        beginDispatcher.register(LEFT, BLOCK, (contact, delta) ->
+                contact.mask1stBody().setIs(TOUCHING_BLOCK_LEFT));
+        beginDispatcher.register(RIGHT, BLOCK, (contact, delta) ->
+                contact.mask1stBody().setIs(TOUCHING_BLOCK_RIGHT));
+        beginDispatcher.register(LEFT, WALL_SLIDE_SENSOR, (contact, delta) ->
+                contact.mask1stBody().setIs(TOUCHING_WALL_SLIDE_LEFT));
+        beginDispatcher.register(RIGHT, WALL_SLIDE_SENSOR, (contact, delta) ->
+                contact.mask1stBody().setIs(TOUCHING_WALL_SLIDE_RIGHT));
+        beginDispatcher.register(LEFT, DAMAGEABLE, ENTITIES_DIFFERENT, (contact, delta) ->
+                contact.mask1stBody().setIs(TOUCHING_HITBOX_LEFT));
+        beginDispatcher.register(RIGHT, DAMAGEABLE, ENTITIES_DIFFERENT, (contact, delta) ->
+                contact.mask1stBody().setIs(TOUCHING_HITBOX_RIGHT));
+        beginDispatcher.register(FEET, BLOCK, (contact, delta) -> {
             Entity entity = contact.mask1stEntity();
             BodyComponent bodyComponent = contact.mask1stBody();
             bodyComponent.setIs(FEET_ON_GROUND);
@@ -68,34 +101,21 @@ public class WorldContactListenerImpl implements WorldContactListener {
                 megaman.setAButtonTask(_JUMP);
                 megaman.getComponent(SoundComponent.class).requestSound(MEGAMAN_LAND_SOUND);
             }
-        } else if (contact.acceptMask(WATER, WATER_LISTENER)) {
+        });
+        beginDispatcher.register(WATER, WATER_LISTENER, (contact, delta) -> {
             contact.mask2ndBody().setIs(IN_WATER);
             if (contact.mask2ndEntity() instanceof Megaman megaman) {
                 megaman.setAButtonTask(_SWIM);
             }
-            List<Vector2> waterSplashPos = new ArrayList<>();
-            Rectangle waterListenerBounds = (Rectangle) contact.mask2ndFixture().getFixtureShape();
-            Rectangle waterBounds = (Rectangle) contact.mask1stFixture().getFixtureShape();
-            int numWaterSplashes = (int) Math.ceil(waterListenerBounds.width / PPM);
-            for (int i = 0; i < numWaterSplashes; i++) {
-                waterSplashPos.add(new Vector2(waterListenerBounds.x + (PPM / 2f) + i * PPM,
-                        waterBounds.y + waterBounds.height));
-            }
-            List<WaterSplash> waterSplashes = WaterSplash.create(gameContext, waterSplashPos);
-            gameContext.addEntities(waterSplashes);
-            Sound splashSound = gameContext.getAsset(SPLASH_SOUND.getSrc(), Sound.class);
-            gameContext.playSound(splashSound);
-        } else if (contact.acceptMask(HEAD, BLOCK)) {
-            contact.mask1stBody().setIs(HEAD_TOUCHING_BLOCK);
-        } else if (contact.acceptMask(DAMAGER, DAMAGEABLE) &&
-                contact.mask1stEntity() instanceof Damager damager &&
-                contact.mask2ndEntity() instanceof Damageable damageable &&
-                damageable.canBeDamagedBy(damager) && damager.canDamage(damageable)) {
-            damageable.takeDamageFrom(damager);
-            damager.onDamageInflictedTo(damageable);
-        } else if (contact.acceptMask(HITTER) && contact.mask1stEntity() instanceof Hitter hitter) {
-            hitter.hit(contact.mask2ndFixture());
-        } else if (contact.acceptMask(BOUNCEABLE, BOUNCER)) {
+            splashWater(contact);
+        });
+        beginDispatcher.register(HEAD, BLOCK, (contact, delta) ->
+                contact.mask1stBody().setIs(HEAD_TOUCHING_BLOCK));
+        beginDispatcher.register(DAMAGER, DAMAGEABLE, WorldContactListenerImpl::canDamage, (contact, delta) ->
+                damage(contact));
+        beginDispatcher.registerAny(HITTER, contact -> contact.mask1stEntity() instanceof Hitter, (contact, delta) ->
+                ((Hitter) contact.mask1stEntity()).hit(contact.mask2ndFixture()));
+        beginDispatcher.register(BOUNCEABLE, BOUNCER, (contact, delta) -> {
             Fixture bouncer = contact.mask2ndFixture();
             Function<Entity, Float> xFunc = (Function<Entity, Float>) bouncer.getUserData("xFunc");
             Function<Entity, Float> yFunc = (Function<Entity, Float>) bouncer.getUserData("yFunc");
@@ -118,7 +138,8 @@ public class WorldContactListenerImpl implements WorldContactListener {
             if (bouncerOnBounce != null) {
                 bouncerOnBounce.run();
             }
-        } else if (contact.acceptMask(FORCE, FORCE_LISTENER)) {
+        });
+        beginDispatcher.register(FORCE, FORCE_LISTENER, (contact, delta) -> {
             Fixture forceFixture = contact.mask1stFixture();
             Fixture forceListenerFixture = contact.mask2ndFixture();
             Function<Entity, Vector2> forceFunction = (Function<Entity, Vector2>) forceFixture.getUserData(FUNCTION);
@@ -142,68 +163,56 @@ public class WorldContactListenerImpl implements WorldContactListener {
             } else {
                 forceListenerBody.translateVelocity(force);
             }
-        } else if (contact.acceptMask(SCANNER)) {
-            Fixture scannerFixture = contact.mask1stFixture();
-            Fixture other = contact.mask2ndFixture();
-            ((Collection<Fixture>) scannerFixture.getUserData(COLLECTION)).add(other);
-        }
+        });
+        beginDispatcher.registerAny(SCANNER, null, (contact, delta) -> scan(contact));
     }
 
-    @Override
     @SuppressWarnings("unchecked")
-    public void continueContact(Contact contact, float delta) {
-        if (contact.acceptMask(LEFT, BLOCK)) {
-            contact.mask1stBody().setIs(TOUCHING_BLOCK_LEFT);
-        } else if (contact.acceptMask(RIGHT, BLOCK)) {
-            contact.mask1stBody().setIs(TOUCHING_BLOCK_RIGHT);
-        } else if (contact.acceptMask(LEFT, WALL_SLIDE_SENSOR)) {
-            contact.mask1stBody().setIs(TOUCHING_WALL_SLIDE_LEFT);
-        } else if (contact.acceptMask(RIGHT, WALL_SLIDE_SENSOR)) {
-            contact.mask1stBody().setIs(TOUCHING_WALL_SLIDE_RIGHT);
-        } else if (contact.acceptMask(LEFT, DAMAGEABLE) && contact.areEntitiesDifferent()) {
-            contact.mask1stBody().setIs(TOUCHING_HITBOX_LEFT);
-        } else if (contact.acceptMask(RIGHT, DAMAGEABLE) && contact.areEntitiesDifferent()) {
-            contact.mask1stBody().setIs(TOUCHING_HITBOX_RIGHT);
-        } else if (contact.acceptMask(FEET, BLOCK)) {
+    private void registerContinueHandlers() {
+        continueDispatcher.register(LEFT, BLOCK, (contact, delta) ->
+                contact.mask1stBody().setIs(TOUCHING_BLOCK_LEFT));
+        continueDispatcher.register(RIGHT, BLOCK, (contact, delta) ->
+                contact.mask1stBody().setIs(TOUCHING_BLOCK_RIGHT));
+        continueDispatcher.register(LEFT, WALL_SLIDE_SENSOR, (contact, delta) ->
+                contact.mask1stBody().setIs(TOUCHING_WALL_SLIDE_LEFT));
+        continueDispatcher.register(RIGHT, WALL_SLIDE_SENSOR, (contact, delta) ->
+                contact.mask1stBody().setIs(TOUCHING_WALL_SLIDE_RIGHT));
+        continueDispatcher.register(LEFT, DAMAGEABLE, ENTITIES_DIFFERENT, (contact, delta) ->
+                contact.mask1stBody().setIs(TOUCHING_HITBOX_LEFT));
+        continueDispatcher.register(RIGHT, DAMAGEABLE, ENTITIES_DIFFERENT, (contact, delta) ->
+                contact.mask1stBody().setIs(TOUCHING_HITBOX_RIGHT));
+        continueDispatcher.register(FEET, BLOCK, (contact, delta) -> {
             Entity entity = contact.mask1stEntity();
             entity.getComponent(BodyComponent.class).setIs(FEET_ON_GROUND);
             if (entity instanceof Megaman megaman) {
                 megaman.setAButtonTask(_JUMP);
             }
-        } else if (contact.acceptMask(FEET, FEET_STICKER)) {
-            contact.mask1stBody().translate(contact.mask2ndBody().getPosDelta());
-        } else if (contact.acceptMask(FEET, CONVEYOR)) {
-            contact.mask1stBody().translate(contact.mask2ndFixture().getUserData(APPLY, Vector2.class));
-        } else if (contact.acceptMask(FEET, ICE)) {
-            contact.mask1stBody().getResistance().x = .95f;
-        } else if (contact.acceptMask(LEFT, ICE) || contact.acceptMask(RIGHT, ICE)) {
+        });
+        continueDispatcher.register(FEET, FEET_STICKER, (contact, delta) ->
+                contact.mask1stBody().translate(contact.mask2ndBody().getPosDelta()));
+        continueDispatcher.register(FEET, CONVEYOR, (contact, delta) ->
+                contact.mask1stBody().translate(contact.mask2ndFixture().getUserData(APPLY, Vector2.class)));
+        continueDispatcher.register(FEET, ICE, (contact, delta) ->
+                contact.mask1stBody().getResistance().x = .95f);
+        ContactHandler wallSlideOnIce = (contact, delta) -> {
             if (contact.mask1stEntity() instanceof Megaman megaman &&
                     megaman.getComponent(BehaviorComponent.class).is(WALL_SLIDING)) {
                 megaman.getComponent(BodyComponent.class).setVelocity(0f, -12.5f * PPM);
             }
-        } else if (contact.acceptMask(WATER, WATER_LISTENER)) {
-            contact.mask2ndBody().setIs(IN_WATER);
-        } else if (contact.acceptMask(HEAD, BLOCK)) {
-            contact.mask1stEntity().getComponent(BodyComponent.class).setIs(HEAD_TOUCHING_BLOCK);
-        } else if (contact.acceptMask(DAMAGER, DAMAGEABLE) &&
-                contact.mask1stEntity() instanceof Damager damager &&
-                contact.mask2ndEntity() instanceof Damageable damageable &&
-                damageable.canBeDamagedBy(damager) && damager.canDamage(damageable)) {
-            damageable.takeDamageFrom(damager);
-            damager.onDamageInflictedTo(damageable);
-        } else if (contact.acceptMask(HITTER, FORCE) && contact.mask1stEntity() instanceof AbstractProjectile p) {
-            p.setOwner(null);
-        } else if (contact.acceptMask(HITTER) && contact.mask1stEntity() instanceof Hitter hitter) {
-            hitter.hit(contact.getMask().getSecond());
-        } else if (contact.acceptMask(LASER, BLOCK) && contact.areEntitiesDifferent()) {
-            Fixture first = contact.mask1stFixture();
-            Fixture second = contact.mask2ndFixture();
-            Collection<Vector2> contactPoints = first.getUserData(COLLECTION, Collection.class);
-            Collection<Vector2> temp = new ArrayList<>();
-            if (intersectLineRect((Polyline) first.getFixtureShape(), (Rectangle) second.getFixtureShape(), temp)) {
-                contactPoints.addAll(temp);
-            }
-        } else if (contact.acceptMask(FORCE, FORCE_LISTENER)) {
+        };
+        continueDispatcher.register(LEFT, ICE, wallSlideOnIce);
+        continueDispatcher.register(RIGHT, ICE, wallSlideOnIce);
+        continueDispatcher.register(WATER, WATER_LISTENER, (contact, delta) ->
+                contact.mask2ndBody().setIs(IN_WATER));
+        continueDispatcher.register(HEAD, BLOCK, (contact, delta) ->
+                contact.mask1stEntity().getComponent(BodyComponent.class).setIs(HEAD_TOUCHING_BLOCK));
+        continueDispatcher.register(DAMAGER, DAMAGEABLE, WorldContactListenerImpl::canDamage, (contact, delta) ->
+                damage(contact));
+        continueDispatcher.register(HITTER, FORCE, contact -> contact.mask1stEntity() instanceof AbstractProjectile,
+                (contact, delta) -> ((AbstractProjectile) contact.mask1stEntity()).setOwner(null));
+        continueDispatcher.registerAny(HITTER, contact -> contact.mask1stEntity() instanceof Hitter,
+                (contact, delta) -> ((Hitter) contact.mask1stEntity()).hit(contact.getMask().getSecond()));
+        continueDispatcher.register(FORCE, FORCE_LISTENER, (contact, delta) -> {
             Function<Entity, Vector2> forceFunction = (Function<Entity, Vector2>) contact.mask1stFixture()
                     .getUserData(FUNCTION);
             Fixture forceListener = contact.mask2ndFixture();
@@ -212,52 +221,73 @@ public class WorldContactListenerImpl implements WorldContactListener {
                 Vector2 force = forceFunction.apply(forceListener.getEntity());
                 forceListenerBody.translateVelocity(force);
             }
-        } else if (contact.acceptMask(SCANNER)) {
-            Fixture scannerFixture = contact.mask1stFixture();
-            Fixture other = contact.mask2ndFixture();
-            ((Collection<Fixture>) scannerFixture.getUserData(COLLECTION)).add(other);
-        }
+        });
+        continueDispatcher.registerAny(SCANNER, null, (contact, delta) -> scan(contact));
     }
 
-    @Override
-    public void endContact(Contact contact, float delta) {
-        if (contact.acceptMask(LEFT, BLOCK)) {
-            contact.mask1stBody().setIsNot(TOUCHING_BLOCK_LEFT);
-        } else if (contact.acceptMask(RIGHT, BLOCK)) {
-            contact.mask1stBody().setIsNot(TOUCHING_BLOCK_RIGHT);
-        } else if (contact.acceptMask(LEFT, WALL_SLIDE_SENSOR)) {
-            contact.mask1stBody().setIsNot(TOUCHING_WALL_SLIDE_LEFT);
-        } else if (contact.acceptMask(RIGHT, WALL_SLIDE_SENSOR)) {
-            contact.mask1stBody().setIsNot(TOUCHING_WALL_SLIDE_RIGHT);
-        } else if (contact.acceptMask(LEFT, DAMAGEABLE) && contact.areEntitiesDifferent()) {
-            contact.mask1stBody().setIsNot(TOUCHING_HITBOX_LEFT);
-        } else if (contact.acceptMask(RIGHT, DAMAGEABLE) && contact.areEntitiesDifferent()) {
-            contact.mask1stBody().setIsNot(TOUCHING_HITBOX_RIGHT);
-        } else if (contact.acceptMask(FEET, BLOCK)) {
+    private void registerEndHandlers() {
+        endDispatcher.register(LEFT, BLOCK, (contact, delta) ->
+                contact.mask1stBody().setIsNot(TOUCHING_BLOCK_LEFT));
+        endDispatcher.register(RIGHT, BLOCK, (contact, delta) ->
+                contact.mask1stBody().setIsNot(TOUCHING_BLOCK_RIGHT));
+        endDispatcher.register(LEFT, WALL_SLIDE_SENSOR, (contact, delta) ->
+                contact.mask1stBody().setIsNot(TOUCHING_WALL_SLIDE_LEFT));
+        endDispatcher.register(RIGHT, WALL_SLIDE_SENSOR, (contact, delta) ->
+                contact.mask1stBody().setIsNot(TOUCHING_WALL_SLIDE_RIGHT));
+        endDispatcher.register(LEFT, DAMAGEABLE, ENTITIES_DIFFERENT, (contact, delta) ->
+                contact.mask1stBody().setIsNot(TOUCHING_HITBOX_LEFT));
+        endDispatcher.register(RIGHT, DAMAGEABLE, ENTITIES_DIFFERENT, (contact, delta) ->
+                contact.mask1stBody().setIsNot(TOUCHING_HITBOX_RIGHT));
+        endDispatcher.register(FEET, BLOCK, (contact, delta) -> {
             contact.mask1stBody().setIsNot(FEET_ON_GROUND);
             if (contact.mask1stEntity() instanceof Megaman megaman) {
                 megaman.setAButtonTask(contact.mask1stBody().is(IN_WATER) ? _SWIM : _AIR_DASH);
             }
-        } else if (contact.acceptMask(HEAD, BLOCK)) {
-            contact.mask1stBody().setIsNot(HEAD_TOUCHING_BLOCK);
-        } else if (contact.acceptMask(WATER, WATER_LISTENER)) {
+        });
+        endDispatcher.register(HEAD, BLOCK, (contact, delta) ->
+                contact.mask1stBody().setIsNot(HEAD_TOUCHING_BLOCK));
+        endDispatcher.register(WATER, WATER_LISTENER, (contact, delta) -> {
             contact.mask2ndBody().setIsNot(IN_WATER);
             if (contact.mask2ndEntity() instanceof Megaman megaman) {
                 megaman.setAButtonTask(_AIR_DASH);
             }
-            List<Vector2> waterSplashPos = new ArrayList<>();
-            Rectangle waterListenerBounds = (Rectangle) contact.mask2ndFixture().getFixtureShape();
-            Rectangle waterBounds = (Rectangle) contact.mask1stFixture().getFixtureShape();
-            int numWaterSplashes = (int) Math.ceil(waterListenerBounds.width / PPM);
-            for (int i = 0; i < numWaterSplashes; i++) {
-                waterSplashPos.add(new Vector2(waterListenerBounds.x + (PPM / 2f) + i * PPM,
-                        waterBounds.y + waterBounds.height));
-            }
-            List<WaterSplash> waterSplashes = WaterSplash.create(gameContext, waterSplashPos);
-            gameContext.addEntities(waterSplashes);
-            Sound splashSound = gameContext.getAsset(SPLASH_SOUND.getSrc(), Sound.class);
-            gameContext.playSound(splashSound);
+            splashWater(contact);
+        });
+    }
+
+    private static boolean canDamage(Contact contact) {
+        return contact.mask1stEntity() instanceof Damager damager &&
+                contact.mask2ndEntity() instanceof Damageable damageable &&
+                damageable.canBeDamagedBy(damager) && damager.canDamage(damageable);
+    }
+
+    private static void damage(Contact contact) {
+        Damager damager = (Damager) contact.mask1stEntity();
+        Damageable damageable = (Damageable) contact.mask2ndEntity();
+        damageable.takeDamageFrom(damager);
+        damager.onDamageInflictedTo(damageable);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void scan(Contact contact) {
+        Fixture scannerFixture = contact.mask1stFixture();
+        Fixture other = contact.mask2ndFixture();
+        ((Collection<Fixture>) scannerFixture.getUserData(COLLECTION)).add(other);
+    }
+
+    private void splashWater(Contact contact) {
+        List<Vector2> waterSplashPos = new ArrayList<>();
+        Rectangle waterListenerBounds = (Rectangle) contact.mask2ndFixture().getFixtureShape();
+        Rectangle waterBounds = (Rectangle) contact.mask1stFixture().getFixtureShape();
+        int numWaterSplashes = (int) Math.ceil(waterListenerBounds.width / PPM);
+        for (int i = 0; i < numWaterSplashes; i++) {
+            waterSplashPos.add(new Vector2(waterListenerBounds.x + (PPM / 2f) + i * PPM,
+                    waterBounds.y + waterBounds.height));
         }
+        List<WaterSplash> waterSplashes = WaterSplash.create(gameContext, waterSplashPos);
+        gameContext.addEntities(waterSplashes);
+        Sound splashSound = gameContext.getAsset(SPLASH_SOUND.getSrc(), Sound.class);
+        gameContext.playSound(splashSound);
     }
 
 }
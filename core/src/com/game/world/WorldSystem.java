@@ -3,68 +3,439 @@ package com.game.world;
 import com.badlogic.gdx.math.*;
 import com.game.entities.Entity;
 import com.game.System;
-import com.game.graph.Graph;
-import com.game.graph.Node;
 import com.game.levels.LevelTiledMap;
+import com.game.profiling.Counter;
+import com.game.profiling.MetricsRegistry;
+import com.game.shapes.ShapeKind;
 import com.game.shapes.custom.Triangle;
+import com.game.utils.ShapeUtils;
 import com.game.utils.interfaces.Updatable;
-import com.game.utils.objects.Pair;
+import lombok.Getter;
 
 import java.util.*;
+import java.util.function.Predicate;
 
 import static com.badlogic.gdx.math.Intersector.intersectRectangles;
 import static com.game.ViewVals.PPM;
-import static com.game.utils.ShapeUtils.overlap;
+import static com.game.utils.ShapeUtils.sweptTimeOfImpact;
 import static java.lang.Math.*;
 
 /**
  * {@link System} implementation that handles the logic pairOf the "game world physics", i.e. gravity, collision
  * handling, and contact-event-handling.
+ * <p>
+ * Bodies and active fixtures are tracked in two persistent {@link SpatialHash} broadphases. Each fixed step moves
+ * only the bodies and fixtures whose cell range changed, then handles each candidate pair pairOf bodies and pair pairOf
+ * fixtures once. Bodies and fixtures that are no longer updated by this system are dropped from the broadphases
+ * before the first step.
+ * <p>
+ * Bodies are partitioned by {@link BodyType} each update. {@link BodyType#STATIC} bodies are never integrated, and
+ * since they can only be moved from outside this system, e.g. by a {@link com.game.movement.TrajectoryComponent},
+ * they and their fixtures are moved in the broadphase once per update instead pairOf once per step. Only dynamic and
+ * abstract bodies query the broadphase, so pairs pairOf two static bodies or two static fixtures are never generated.
+ * The other bodies are integrated together each step through a packed {@link BodyStore}.
+ * <p>
+ * Fixture contacts are tracked by key in two {@link ContactSet} instances that are swapped each update. The begin,
+ * continue, and end events are found with a sorted merge pairOf the current and prior keys, and are handled through one
+ * reused {@link Contact}. Pairs pairOf fixtures whose category and mask bits do not match, see {@link Fixture}, are
+ * skipped before their shapes are tested, and the shapes pairOf the remaining pairs are tested together by a
+ * {@link Narrowphase} after the broadphase pass, so that large steps can optionally be split across threads. The
+ * mask bits pairOf each fixture are narrowed to the fixture types that the listener
+ * {@link WorldContactListener#handles handles} its type with, and a fixture that cannot contact any type is kept out
+ * pairOf the broadphase altogether.
+ * <p>
+ * A dynamic body that neither moves nor changes velocity for {@link #SLEEP_STEPS} steps in a row falls asleep, see
+ * {@link BodyComponent#isAsleep()}. Abstract bodies never fall asleep, since they are typically driven by game logic
+ * that reshapes their fixtures without moving them. Sleeping bodies are not integrated, are moved in the broadphase
+ * once per update like static bodies, and do not query the broadphase; contacts between sleeping and static fixtures
+ * are carried over from the prior update instead pairOf being tested again. A sleeping body wakes when its position,
+ * velocity, or gravity is changed from outside the world step or by its pre-process, when one pairOf its fixtures is
+ * added, activated, moved, or reshaped so that its bounds change, when one pairOf its contacts begins or ends, or when
+ * a static body next to it moves.
+ * <p>
+ * Dynamic bodies flagged as {@link BodyComponent#isBullet() bullets} are swept against static bodies after being
+ * integrated, and are stopped just inside the first one they would have passed through, so fast projectiles cannot
+ * tunnel through thin blocks however large the fixed time step is.
+ * <p>
+ * At most {@link #setMaxStepsPerFrame(int) max steps per frame} steps are run in one update. If a long frame leaves
+ * more time in the accumulator than that, then the whole steps left over are dropped rather than carried into the
+ * next update, so that one hitch does not make the following frames slower too. {@link #getStepCount()},
+ * {@link #getTotalStepCount()}, and {@link #getDroppedTime()} report the steps run and the time dropped.
+ * <p>
+ * The fixture broadphase can also be queried directly, without creating contacts, with {@link #queryAABB},
+ * {@link #raycast}, {@link #queryRadius}, and {@link #nearest}. Queries see the active fixtures that can contact
+ * anything, where they were moved to by the last update, and must be made on the thread running the update.
+ * <p>
+ * The work done each update is counted into the "world." {@link Counter counters} pairOf a {@link MetricsRegistry},
+ * see {@link #setMetrics(MetricsRegistry)}: steps run, bodies integrated, broadphase cells touched, broadphase
+ * candidate pairs, narrowphase shape tests, body collisions handled, contacts begun, continued, and ended, bodies
+ * asleep at the end pairOf the update, bodies that fell asleep, bodies woken, and whole steps dropped. Per step
+ * figures are the frame figures divided by the steps run.
  */
 public class WorldSystem extends System {
 
+    /**
+     * The number pairOf consecutive resting steps after which a body falls asleep.
+     */
+    public static final int SLEEP_STEPS = 60;
+
     private static final float MIN_VEL = .01f;
+    private static final float SLEEP_POS_DELTA = .0001f;
+    private static final float SWEEP_SKIN = .01f;
+    private static final FixtureType[] FIXTURE_TYPES = FixtureType.values();
 
-    private final Set<Contact> priorContacts = new HashSet<>();
-    private final Set<Contact> currentContacts = new HashSet<>();
+    private final Contact contact = new Contact(null, null);
     private final List<BodyComponent> bodies = new ArrayList<>();
+    private final List<BodyComponent> staticBodies = new ArrayList<>();
+    private final List<BodyComponent> dynamicBodies = new ArrayList<>();
+    private final List<BodyComponent> sleepingBodies = new ArrayList<>();
     private final List<Updatable> postProcess = new ArrayList<>();
+    private final Narrowphase narrowphase = new Narrowphase();
+    private final BodyStore bodyStore = new BodyStore(256);
+    private final Vector2 fixtureCenter = new Vector2();
+    private final Rectangle overlap = new Rectangle();
+    private final Rectangle priorFixtureBounds = new Rectangle();
+    private final Rectangle sweepStart = new Rectangle();
+    private final Rectangle sweepBounds = new Rectangle();
+    private final List<BodyComponent> candidateBodies = new ArrayList<>();
+    private final List<Fixture> candidateFixtures = new ArrayList<>();
+    private final List<BodyComponent> droppedBodies = new ArrayList<>();
+    private final List<Fixture> droppedFixtures = new ArrayList<>();
+    private final List<Fixture> queryFixtures = new ArrayList<>();
+    private final Rectangle queryBounds = new Rectangle();
+    private final Circle queryCircle = new Circle();
+    private final Vector2 queryCenter = new Vector2();
+    private final Vector2 queryNormal = new Vector2();
     private final WorldContactListener worldContactListener;
-    private final float fixedTimeStep;
+    private final long[] handledMasks = new long[FIXTURE_TYPES.length];
 
-    private Graph graph;
+    private ContactSet priorContacts = new ContactSet(256);
+    private ContactSet currentContacts = new ContactSet(256);
+    private SpatialHash<BodyComponent> bodyHash;
+    private SpatialHash<Fixture> fixtureHash;
+    private int updateMark;
     private Vector2 airResistance;
     private float accumulator;
+    private float fixedTimeStep;
+    private int maxStepsPerFrame = WorldVals.MAX_STEPS_PER_FRAME;
+    private boolean sleepingEnabled = true;
+
+    @Getter
+    private int stepCount;
+    @Getter
+    private long totalStepCount;
+    @Getter
+    private float droppedTime;
+    @Getter
+    private int sleepingBodyCount;
+    @Getter
+    private long fallAsleepCount;
+    @Getter
+    private long wakeCount;
+
+    private Counter stepsCounter;
+    private Counter bodiesIntegratedCounter;
+    private Counter cellsTouchedCounter;
+    private Counter candidatePairsCounter;
+    private Counter shapeTestsCounter;
+    private Counter collisionsCounter;
+    private Counter contactsBegunCounter;
+    private Counter contactsContinuedCounter;
+    private Counter contactsEndedCounter;
+    private Counter sleepingCounter;
+    private Counter fellAsleepCounter;
+    private Counter wokenCounter;
+    private Counter droppedStepsCounter;
+    private long countedCellVisits;
+    private long countedWakeCount;
 
     public WorldSystem(WorldContactListener worldContactListener, Vector2 airResistance, float fixedTimeStep) {
         super(BodyComponent.class);
         this.airResistance = airResistance;
         this.fixedTimeStep = fixedTimeStep;
         this.worldContactListener = worldContactListener;
+        for (FixtureType fixtureType1 : FIXTURE_TYPES) {
+            for (FixtureType fixtureType2 : FIXTURE_TYPES) {
+                if (worldContactListener.handles(fixtureType1, fixtureType2) ||
+                        worldContactListener.handles(fixtureType2, fixtureType1)) {
+                    handledMasks[fixtureType1.ordinal()] |= Fixture.categoryBitOf(fixtureType2);
+                }
+            }
+        }
+        setMetrics(new MetricsRegistry());
+    }
+
+    /**
+     * Registers the counters pairOf this system with the registry, replacing the counters pairOf any prior registry.
+     * Until set, this system counts into a registry pairOf its own.
+     *
+     * @param metrics the metrics registry
+     */
+    public void setMetrics(MetricsRegistry metrics) {
+        stepsCounter = metrics.counter("world.steps");
+        bodiesIntegratedCounter = metrics.counter("world.bodiesIntegrated");
+        cellsTouchedCounter = metrics.counter("world.cellsTouched");
+        candidatePairsCounter = metrics.counter("world.candidatePairs");
+        shapeTestsCounter = metrics.counter("world.shapeTests");
+        collisionsCounter = metrics.counter("world.collisions");
+        contactsBegunCounter = metrics.counter("world.contactsBegun");
+        contactsContinuedCounter = metrics.counter("world.contactsContinued");
+        contactsEndedCounter = metrics.counter("world.contactsEnded");
+        sleepingCounter = metrics.counter("world.sleeping");
+        fellAsleepCounter = metrics.counter("world.fellAsleep");
+        wokenCounter = metrics.counter("world.woken");
+        droppedStepsCounter = metrics.counter("world.droppedSteps");
+    }
+
+    /**
+     * Sizes the broadphase to the level map, one cell per tile. See {@link #setWorldBounds(int, int)}.
+     *
+     * @param levelMap the level map
+     */
+    public void setWorldBounds(LevelTiledMap levelMap) {
+        setWorldBounds(levelMap.getWidthInTiles(), levelMap.getHeightInTiles());
     }
 
-    public void setWorldGraph(LevelTiledMap levelMap) {
-        graph = new Graph(new Vector2(PPM, PPM), levelMap.getWidthInTiles(), levelMap.getHeightInTiles());
+    /**
+     * Replaces the broadphase with empty ones pairOf the given size in {@link com.game.ViewVals#PPM} sized cells,
+     * starting at the origin. Bodies and fixtures are inserted again on the next update.
+     *
+     * @param columns the number pairOf columns
+     * @param rows    the number pairOf rows
+     */
+    public void setWorldBounds(int columns, int rows) {
+        bodyHash = new SpatialHash<>(PPM, columns, rows);
+        fixtureHash = new SpatialHash<>(PPM, columns, rows);
+        countedCellVisits = 0L;
     }
 
     public void setAirResistance(Vector2 airResistance) {
         this.airResistance = airResistance;
     }
 
+    /**
+     * Sets the fixed time step. The time accumulated towards the next step is kept.
+     *
+     * @param fixedTimeStep the fixed time step in seconds
+     */
+    public void setFixedTimeStep(float fixedTimeStep) {
+        this.fixedTimeStep = fixedTimeStep;
+    }
+
+    /**
+     * Returns the fraction pairOf a fixed step left in the accumulator after the last update, from zero inclusive to
+     * one exclusive. Rendering can use it to place bodies between their last two steps, see
+     * {@link BodyComponent#getInterpolatedCollisionBox(float, Rectangle)}.
+     *
+     * @return the interpolation alpha
+     */
+    public float getInterpolationAlpha() {
+        return accumulator / fixedTimeStep;
+    }
+
+    /**
+     * Returns the number pairOf updates this system has run. The contacts pairOf a body that stopped being updated are
+     * ended by the next update, so once this count has changed no contact keys pairOf its fixtures are left.
+     *
+     * @return the number pairOf updates run
+     */
+    public int getUpdateCount() {
+        return updateMark;
+    }
+
+    /**
+     * Sets the max number pairOf steps run in one update. Accumulated time worth more steps than that is dropped and
+     * added to {@link #getDroppedTime()}. {@link WorldVals#MAX_STEPS_PER_FRAME} by default.
+     *
+     * @param maxStepsPerFrame the max number pairOf steps per update
+     */
+    public void setMaxStepsPerFrame(int maxStepsPerFrame) {
+        this.maxStepsPerFrame = maxStepsPerFrame;
+    }
+
+    /**
+     * Sets if the shapes pairOf candidate fixture pairs are tested in parallel, see {@link Narrowphase}. The order in
+     * which contacts are handled is the same either way. False by default.
+     *
+     * @param parallelNarrowphase if fixture shapes are tested in parallel
+     */
+    public void setParallelNarrowphase(boolean parallelNarrowphase) {
+        narrowphase.setParallel(parallelNarrowphase);
+    }
+
+    /**
+     * Sets if bodies can fall asleep. Disabling wakes every sleeping body on the next update. True by default.
+     *
+     * @param sleepingEnabled if bodies can fall asleep
+     */
+    public void setSleepingEnabled(boolean sleepingEnabled) {
+        this.sleepingEnabled = sleepingEnabled;
+    }
+
+    /**
+     * Adds to the list each fixture passing the filter whose bounds overlap the rectangle, in broadphase order.
+     *
+     * @param rectangle the rectangle
+     * @param filter    the filter, may be null
+     * @param results   the list the fixtures are added to
+     */
+    public void queryAABB(Rectangle rectangle, Predicate<Fixture> filter, List<Fixture> results) {
+        if (fixtureHash == null) {
+            return;
+        }
+        queryFixtures.clear();
+        fixtureHash.query(rectangle, queryFixtures);
+        for (int i = 0; i < queryFixtures.size(); i++) {
+            Fixture fixture = queryFixtures.get(i);
+            if ((filter == null || filter.test(fixture)) && fixture.getBounds().overlaps(rectangle)) {
+                results.add(fixture);
+            }
+        }
+        queryFixtures.clear();
+    }
+
+    /**
+     * Casts a ray from the start to the end and sets the hit to the first fixture passing the filter that the ray
+     * hits, see {@link ShapeUtils#raycast(ShapeKind, Shape2D, float, float, float, float, Vector2)}. If two fixtures
+     * are hit at the same fraction, then the first in broadphase order is kept.
+     *
+     * @param start  the start pairOf the ray
+     * @param end    the end pairOf the ray
+     * @param filter the filter, may be null
+     * @param hit    the hit to set, cleared if nothing is hit
+     * @return if a fixture is hit
+     */
+    public boolean raycast(Vector2 start, Vector2 end, Predicate<Fixture> filter, RaycastHit hit) {
+        hit.clear();
+        if (fixtureHash == null) {
+            return false;
+        }
+        float dx = end.x - start.x;
+        float dy = end.y - start.y;
+        queryBounds.set(min(start.x, end.x), min(start.y, end.y), abs(dx), abs(dy));
+        queryFixtures.clear();
+        fixtureHash.query(queryBounds, queryFixtures);
+        for (int i = 0; i < queryFixtures.size(); i++) {
+            Fixture fixture = queryFixtures.get(i);
+            if (filter != null && !filter.test(fixture)) {
+                continue;
+            }
+            float fraction = ShapeUtils.raycast(fixture.getShapeKind(), fixture.getFixtureShape(), start.x, start.y,
+                    dx, dy, queryNormal);
+            if (fraction >= 0f && (!hit.isHit() || fraction < hit.getFraction())) {
+                hit.set(fixture, fraction, start.x + dx * fraction, start.y + dy * fraction);
+                hit.getNormal().set(queryNormal);
+            }
+        }
+        queryFixtures.clear();
+        return hit.isHit();
+    }
+
+    /**
+     * Adds to the list each fixture passing the filter whose shape overlaps the circle pairOf the radius around the
+     * center, in broadphase order.
+     *
+     * @param center  the center
+     * @param radius  the radius
+     * @param filter  the filter, may be null
+     * @param results the list the fixtures are added to
+     */
+    public void queryRadius(Vector2 center, float radius, Predicate<Fixture> filter, List<Fixture> results) {
+        if (fixtureHash == null) {
+            return;
+        }
+        queryCircle.set(center, radius);
+        queryBounds.set(center.x - radius, center.y - radius, radius * 2f, radius * 2f);
+        queryFixtures.clear();
+        fixtureHash.query(queryBounds, queryFixtures);
+        for (int i = 0; i < queryFixtures.size(); i++) {
+            Fixture fixture = queryFixtures.get(i);
+            if ((filter == null || filter.test(fixture)) && ShapeUtils.overlap(ShapeKind.CIRCLE, queryCircle,
+                    fixture.getShapeKind(), fixture.getFixtureShape())) {
+                results.add(fixture);
+            }
+        }
+        queryFixtures.clear();
+    }
+
+    /**
+     * Returns the fixture pairOf the type whose bounds center is nearest to the point and no further than the max
+     * distance, or null if there is none. If two fixtures are equally near, then the first in broadphase order is
+     * returned.
+     *
+     * @param point       the point
+     * @param maxDistance the max distance
+     * @param fixtureType the fixture type
+     * @return the nearest fixture, or null
+     */
+    public Fixture nearest(Vector2 point, float maxDistance, FixtureType fixtureType) {
+        if (fixtureHash == null) {
+            return null;
+        }
+        queryBounds.set(point.x - maxDistance, point.y - maxDistance, maxDistance * 2f, maxDistance * 2f);
+        queryFixtures.clear();
+        fixtureHash.query(queryBounds, queryFixtures);
+        Fixture nearest = null;
+        float nearestDst2 = maxDistance * maxDistance;
+        for (int i = 0; i < queryFixtures.size(); i++) {
+            Fixture fixture = queryFixtures.get(i);
+            if (!fixture.isFixtureType(fixtureType)) {
+                continue;
+            }
+            float dst2 = fixture.getBounds().getCenter(queryCenter).dst2(point);
+            if (dst2 < nearestDst2 || (nearest == null && dst2 == nearestDst2)) {
+                nearest = fixture;
+                nearestDst2 = dst2;
+            }
+        }
+        queryFixtures.clear();
+        return nearest;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Also forgets all contacts without ending them, since their fixtures may be reused by pooled entities.
+     */
+    @Override
+    public void purgeAllEntities() {
+        super.purgeAllEntities();
+        priorContacts.clear();
+        currentContacts.clear();
+    }
+
     @Override
     protected void preProcess(float delta) {
         postProcess.clear();
         bodies.clear();
+        staticBodies.clear();
+        dynamicBodies.clear();
+        sleepingBodies.clear();
+        updateMark++;
     }
 
     @Override
     protected void processEntity(Entity entity, float delta) {
         BodyComponent bodyComponent = entity.getComponent(BodyComponent.class);
-        bodies.add(bodyComponent);
-        // bodyComponent.setPriorCollisionBoxToCurrent();
+        // pre-process first so that the rest check below sees what it changes
         if (bodyComponent.getPreProcess() != null) {
             bodyComponent.getPreProcess().update(delta);
         }
+        bodies.add(bodyComponent);
+        if (bodyComponent.getBodyType() == BodyType.STATIC) {
+            staticBodies.add(bodyComponent);
+        } else if (bodyComponent.isAsleep() && sleepingEnabled && !bodyComponent.isRestDisturbed()) {
+            sleepingBodies.add(bodyComponent);
+        } else {
+            if (bodyComponent.isAsleep() || bodyComponent.getSleepMark() == updateMark - 1) {
+                // woken now or since the last update
+                bodyComponent.wakeUp();
+                wakeCount++;
+            }
+            dynamicBodies.add(bodyComponent);
+        }
+        markSeen(bodyComponent);
+        // bodyComponent.setPriorCollisionBoxToCurrent();
         if (bodyComponent.getPostProcess() != null) {
             postProcess.add(bodyComponent.getPostProcess());
         }
@@ -72,141 +443,371 @@ public class WorldSystem extends System {
 
     @Override
     protected void postProcess(float delta) {
+        dropUnseenProxies();
+        // static bodies do not move during steps
+        for (int i = 0; i < staticBodies.size(); i++) {
+            BodyComponent staticBody = staticBodies.get(i);
+            moveInBroadphase(staticBody);
+            if (!sleepingBodies.isEmpty() && !staticBody.getCollisionBox().equals(staticBody.getPriorCollisionBox())) {
+                wakeSleepingBodiesNear(staticBody);
+            }
+        }
+        // neither do sleeping bodies, unless the bounds pairOf one pairOf their fixtures changed
+        for (int i = sleepingBodies.size() - 1; i >= 0; i--) {
+            BodyComponent sleepingBody = sleepingBodies.get(i);
+            if (moveInBroadphase(sleepingBody)) {
+                sleepingBody.wakeUp();
+                wakeCount++;
+                sleepingBodies.remove(i);
+                dynamicBodies.add(sleepingBody);
+            }
+        }
         accumulator += delta;
-        while (accumulator >= fixedTimeStep) {
+        stepCount = 0;
+        while (accumulator >= fixedTimeStep && stepCount < maxStepsPerFrame) {
             accumulator -= fixedTimeStep;
-            bodies.forEach(bodyComponent -> {
-                Vector2 velocity = bodyComponent.getVelocity();
-                // set velocity to zero if below threshold
-                if (abs(velocity.x) < PPM * MIN_VEL) {
-                    velocity.x = 0f;
-                }
-                if (abs(velocity.y) < PPM * MIN_VEL) {
-                    velocity.y = 0f;
+            stepCount++;
+            for (int i = 0; i < dynamicBodies.size(); i++) {
+                dynamicBodies.get(i).markStepStart();
+            }
+            bodiesIntegratedCounter.add(dynamicBodies.size());
+            bodyStore.load(dynamicBodies);
+            bodyStore.integrate(fixedTimeStep, PPM * MIN_VEL, airResistance);
+            bodyStore.store();
+            for (int i = 0; i < dynamicBodies.size(); i++) {
+                BodyComponent body = dynamicBodies.get(i);
+                if (body.isBullet() && body.getBodyType() == BodyType.DYNAMIC) {
+                    sweep(body);
                 }
-                // apply resistance
-                if (bodyComponent.isAffectedByResistance()) {
-                    if (bodyComponent.getResistance().x != 0) {
-                        velocity.x /= bodyComponent.getResistance().x;
+            }
+            for (int i = 0; i < dynamicBodies.size(); i++) {
+                moveInBroadphase(dynamicBodies.get(i));
+            }
+            // handle collisions, static bodies never query so static pairs are skipped
+            bodyHash.beginPass();
+            for (int i = 0; i < dynamicBodies.size(); i++) {
+                BodyComponent body = dynamicBodies.get(i);
+                candidateBodies.clear();
+                bodyHash.queryPairs(body.getBroadphaseProxy(), candidateBodies);
+                candidatePairsCounter.add(candidateBodies.size());
+                for (int j = 0; j < candidateBodies.size(); j++) {
+                    BodyComponent other = candidateBodies.get(j);
+                    if (intersectRectangles(body.getCollisionBox(), other.getCollisionBox(), overlap)) {
+                        handleCollision(body, other, overlap);
                     }
-                    if (bodyComponent.getResistance().y != 0) {
-                        velocity.y /= bodyComponent.getResistance().y;
+                    if (intersectRectangles(other.getCollisionBox(), body.getCollisionBox(), overlap)) {
+                        handleCollision(other, body, overlap);
                     }
                 }
-                // reset resistance
-                bodyComponent.setResistance(airResistance);
-                // if gravity on, apply gravity
-                if (bodyComponent.isGravityOn()) {
-                    velocity.add(0f, bodyComponent.getGravity());
+            }
+            // handle fixture contacts
+            fixtureHash.beginPass();
+            for (int i = 0; i < dynamicBodies.size(); i++) {
+                List<Fixture> fixtures = dynamicBodies.get(i).getFixtures();
+                for (int j = 0; j < fixtures.size(); j++) {
+                    Fixture f1 = fixtures.get(j);
+                    if (!f1.isActive()) {
+                        continue;
+                    }
+                    candidateFixtures.clear();
+                    fixtureHash.queryPairs(f1.getBroadphaseProxy(), candidateFixtures);
+                    candidatePairsCounter.add(candidateFixtures.size());
+                    for (int k = 0; k < candidateFixtures.size(); k++) {
+                        Fixture f2 = candidateFixtures.get(k);
+                        if (canContact(f1, f2)) {
+                            narrowphase.add(f1, f2);
+                        }
+                    }
                 }
-                // clamp velocity
-                Vector2 clamp = bodyComponent.getClamp();
-                if (velocity.x > 0f && velocity.x > abs(clamp.x)) {
-                    velocity.x = abs(clamp.x);
-                } else if (velocity.x < 0f && velocity.x < -abs(clamp.x)) {
-                    velocity.x = -abs(clamp.x);
+            }
+            // shapes may be tested in parallel, but contacts are added in broadphase order
+            shapeTestsCounter.add(narrowphase.size());
+            narrowphase.test();
+            for (int i = 0; i < narrowphase.size(); i++) {
+                if (narrowphase.overlaps(i)) {
+                    currentContacts.add(narrowphase.getFixture1(i), narrowphase.getFixture2(i));
                 }
-                if (velocity.y > 0f && velocity.y > abs(clamp.y)) {
-                    velocity.y = abs(clamp.y);
-                } else if (velocity.y < 0f && velocity.y < -abs(clamp.y)) {
-                    velocity.y = -abs(clamp.y);
+            }
+            narrowphase.clear();
+            for (int i = 0; i < dynamicBodies.size(); i++) {
+                BodyComponent body = dynamicBodies.get(i);
+                if (body.isRestingSinceStepStart(PPM * SLEEP_POS_DELTA, PPM * MIN_VEL)) {
+                    body.setRestSteps(body.getRestSteps() + 1);
+                } else {
+                    body.setRestSteps(0);
                 }
-                // translate
-                bodyComponent.translate(velocity.x * fixedTimeStep, velocity.y * fixedTimeStep);
-                // add body to graph
-                graph.addObjToNodes(bodyComponent, bodyComponent.getCollisionBox());
-                // set fixtures
-                bodyComponent.getFixtures().forEach(fixture -> {
-                    Vector2 center = bodyComponent.getCenter().cpy();
-                    center.add(fixture.getOffset());
-                    Shape2D shape = fixture.getFixtureShape();
-                    if (shape instanceof Rectangle rectangle) {
-                        rectangle.setCenter(center);
-                    } else if (shape instanceof Circle circle) {
-                        circle.setPosition(center);
-                    } else if (shape instanceof Polyline line) {
-                        line.setOrigin(center.x, center.y);
-                    } else if (shape instanceof Triangle triangle) {
-                        triangle.setOrigin(center.x, center.y);
-                    }
-                    // add fixture to graph if active
-                    if (fixture.isActive()) {
-                        graph.addObjToNodes(fixture, fixture.getFixtureShape());
-                    }
-                });
-            });
-            // handle collisions
-            bodies.forEach(body -> getBodiesOverlapping(body).forEach((b, r) -> {
-                if (intersectRectangles(body.getCollisionBox(), b.getCollisionBox(), r)) {
-                    handleCollision(body, b, r);
+            }
+        }
+        totalStepCount += stepCount;
+        stepsCounter.add(stepCount);
+        if (accumulator >= fixedTimeStep) {
+            // drop the steps that could not be caught up on so that one long frame does not slow down the next ones
+            float dropped = accumulator - accumulator % fixedTimeStep;
+            accumulator -= dropped;
+            droppedTime += dropped;
+            droppedStepsCounter.add(Math.round(dropped / fixedTimeStep));
+        }
+        if (stepCount > 0) {
+            for (int i = 0; i < dynamicBodies.size(); i++) {
+                dynamicBodies.get(i).markStepEnd();
+            }
+            bodyStore.clear();
+        }
+        carryOverRestingContacts();
+        handleContacts(delta);
+        for (int i = 0; i < postProcess.size(); i++) {
+            postProcess.get(i).update(delta);
+        }
+        for (int i = 0; i < bodies.size(); i++) {
+            bodies.get(i).setPriorCollisionBoxToCurrent();
+        }
+        updateSleep();
+        long cellVisits = bodyHash.getCellVisits() + fixtureHash.getCellVisits();
+        cellsTouchedCounter.add(cellVisits - countedCellVisits);
+        countedCellVisits = cellVisits;
+        wokenCounter.add(wakeCount - countedWakeCount);
+        countedWakeCount = wakeCount;
+    }
+
+    /**
+     * Sweeps the collision box pairOf the bullet body from its position at the start pairOf the step to its integrated
+     * position against the static bodies in the broadphase. If a static body is hit, then the body is moved back to
+     * just inside the first one hit, so that the collision and the fixture contacts are handled this step the same as
+     * if the body had not moved far enough to pass through it.
+     *
+     * @param bodyComponent the bullet body
+     */
+    private void sweep(BodyComponent bodyComponent) {
+        Rectangle collisionBox = bodyComponent.getCollisionBox();
+        Vector2 start = bodyComponent.getStepStartPosition();
+        float dx = collisionBox.x - start.x;
+        float dy = collisionBox.y - start.y;
+        if (dx == 0f && dy == 0f) {
+            return;
+        }
+        sweepStart.set(start.x, start.y, collisionBox.width, collisionBox.height);
+        sweepBounds.set(min(start.x, collisionBox.x), min(start.y, collisionBox.y), collisionBox.width + abs(dx),
+                collisionBox.height + abs(dy));
+        candidateBodies.clear();
+        bodyHash.query(sweepBounds, candidateBodies);
+        float timeOfImpact = 1f;
+        for (int i = 0; i < candidateBodies.size(); i++) {
+            BodyComponent other = candidateBodies.get(i);
+            if (other.getBodyType() == BodyType.STATIC) {
+                timeOfImpact = min(timeOfImpact, sweptTimeOfImpact(sweepStart, dx, dy, other.getCollisionBox()));
+            }
+        }
+        if (timeOfImpact < 1f) {
+            float distance = (float) sqrt(dx * dx + dy * dy);
+            float t = timeOfImpact + min(PPM * SWEEP_SKIN, distance * (1f - timeOfImpact)) / distance;
+            collisionBox.setPosition(start.x + dx * t, start.y + dy * t);
+        }
+    }
+
+    private void wakeSleepingBodiesNear(BodyComponent staticBody) {
+        candidateBodies.clear();
+        bodyHash.beginPass();
+        bodyHash.queryPairs(staticBody.getBroadphaseProxy(), candidateBodies);
+        for (int i = 0; i < candidateBodies.size(); i++) {
+            BodyComponent body = candidateBodies.get(i);
+            if (body.isAsleep() && isSeen(body)) {
+                body.wakeUp();
+                wakeCount++;
+                sleepingBodies.remove(body);
+                dynamicBodies.add(body);
+            }
+        }
+    }
+
+    private void carryOverRestingContacts() {
+        for (int i = 0; i < priorContacts.size(); i++) {
+            int slot = priorContacts.slotAt(i);
+            Fixture f1 = priorContacts.getFixture1(slot);
+            Fixture f2 = priorContacts.getFixture2(slot);
+            if (!f1.isActive() || !f2.isActive()) {
+                continue;
+            }
+            BodyComponent b1 = f1.getEntity().getComponent(BodyComponent.class);
+            BodyComponent b2 = f2.getEntity().getComponent(BodyComponent.class);
+            if ((b1.isAsleep() || b2.isAsleep()) && isResting(b1) && isResting(b2)) {
+                currentContacts.add(f1, f2);
+            }
+        }
+    }
+
+    private boolean isResting(BodyComponent bodyComponent) {
+        return isSeen(bodyComponent) && (bodyComponent.isAsleep() || bodyComponent.getBodyType() == BodyType.STATIC);
+    }
+
+    private boolean isSeen(BodyComponent bodyComponent) {
+        SpatialHash.Proxy<BodyComponent> proxy = bodyComponent.getBroadphaseProxy();
+        return bodyHash.owns(proxy) && proxy.getSeenMark() == updateMark;
+    }
+
+    private void wake(Fixture fixture) {
+        BodyComponent bodyComponent = fixture.getEntity().getComponent(BodyComponent.class);
+        if (bodyComponent != null && bodyComponent.isAsleep()) {
+            bodyComponent.wakeUp();
+            wakeCount++;
+        }
+    }
+
+    private void updateSleep() {
+        if (sleepingEnabled) {
+            for (int i = 0; i < dynamicBodies.size(); i++) {
+                BodyComponent body = dynamicBodies.get(i);
+                if (body.getBodyType() == BodyType.DYNAMIC && !body.isAsleep() && body.getRestSteps() >= SLEEP_STEPS) {
+                    body.fallAsleep();
+                    fallAsleepCount++;
+                    fellAsleepCounter.increment();
                 }
-            }));
-            // handle fixture contacts
-            bodies.forEach(body -> body.getActiveFixtures().forEach(f1 ->
-                    getFixturesOverlapping(f1).forEach(f2 -> currentContacts.add(new Contact(f1, f2)))));
-            // clear graph node objs
-            graph.clearNodeObjs();
-        }
-        // handle contacts in the current contacts setBounds
-        currentContacts.forEach(contact -> {
-            if (priorContacts.contains(contact)) {
+            }
+        }
+        sleepingBodyCount = 0;
+        for (int i = 0; i < bodies.size(); i++) {
+            BodyComponent body = bodies.get(i);
+            if (body.isAsleep()) {
+                body.setSleepMark(updateMark);
+                sleepingBodyCount++;
+            }
+        }
+        sleepingCounter.add(sleepingBodyCount);
+    }
+
+    private void handleContacts(float delta) {
+        long[] current = currentContacts.sortedKeys();
+        long[] prior = priorContacts.sortedKeys();
+        int currentSize = currentContacts.size();
+        int priorSize = priorContacts.size();
+        // begin or continue each contact in the current contacts set, merging against the sorted prior keys
+        for (int i = 0, j = 0; i < currentSize; i++) {
+            long key = current[i];
+            while (j < priorSize && prior[j] < key) {
+                j++;
+            }
+            int slot = currentContacts.indexOf(key);
+            contact.set(currentContacts.getFixture1(slot), currentContacts.getFixture2(slot));
+            if (j < priorSize && prior[j] == key) {
+                contactsContinuedCounter.increment();
                 worldContactListener.continueContact(contact, delta);
             } else {
+                contactsBegunCounter.increment();
+                wake(contact.getFixture1());
+                wake(contact.getFixture2());
                 worldContactListener.beginContact(contact, delta);
             }
-        });
-        // handle contacts in the prior contacts setBounds
-        priorContacts.forEach(contact -> {
-            if (!currentContacts.contains(contact)) {
-                worldContactListener.endContact(contact, delta);
+        }
+        // end each contact in the prior contacts set that is not in the current contacts set
+        for (int i = 0, j = 0; j < priorSize; j++) {
+            long key = prior[j];
+            while (i < currentSize && current[i] < key) {
+                i++;
+            }
+            if (i < currentSize && current[i] == key) {
+                continue;
             }
-        });
-        // move current contacts to prior contacts setBounds, then clear the current contacts setBounds
-        priorContacts.clear();
-        priorContacts.addAll(currentContacts);
+            int slot = priorContacts.indexOf(key);
+            contact.set(priorContacts.getFixture1(slot), priorContacts.getFixture2(slot));
+            contactsEndedCounter.increment();
+            wake(contact.getFixture1());
+            wake(contact.getFixture2());
+            worldContactListener.endContact(contact, delta);
+        }
+        contact.set(null, null);
+        // swap the sets instead pairOf copying, then clear the new current contacts set
+        ContactSet swap = priorContacts;
+        priorContacts = currentContacts;
+        currentContacts = swap;
         currentContacts.clear();
-        postProcess.forEach(postProcessable -> postProcessable.update(delta));
-        bodies.forEach(BodyComponent::setPriorCollisionBoxToCurrent);
-    }
-
-
-    private Map<BodyComponent, Rectangle> getBodiesOverlapping(BodyComponent bodyComponent) {
-        Pair<Pair<Integer>> indexes = graph.getNodeIndexes(bodyComponent.getCollisionBox());
-        Pair<Integer> min = indexes.getFirst();
-        Pair<Integer> max = indexes.getSecond();
-        Map<BodyComponent, Rectangle> map = new HashMap<>();
-        for (int i = min.getFirst(); i <= max.getFirst(); i++) {
-            for (int j = min.getSecond(); j <= max.getSecond(); j++) {
-                Node node = graph.getNode(i, j);
-                node.getObjects().stream().filter(o -> o instanceof BodyComponent).forEach(o -> {
-                    BodyComponent c = (BodyComponent) o;
-                    Rectangle overlap = new Rectangle();
-                    if (intersectRectangles(bodyComponent.getCollisionBox(), c.getCollisionBox(), overlap)) {
-                        map.put(c, overlap);
-                    }
-                });
+    }
+
+    private void markSeen(BodyComponent bodyComponent) {
+        SpatialHash.Proxy<BodyComponent> bodyProxy = bodyComponent.getBroadphaseProxy();
+        if (!bodyHash.owns(bodyProxy)) {
+            bodyProxy = bodyHash.createProxy(bodyComponent);
+            bodyComponent.setBroadphaseProxy(bodyProxy);
+        }
+        bodyProxy.setSeenMark(updateMark);
+        List<Fixture> fixtures = bodyComponent.getFixtures();
+        for (int i = 0; i < fixtures.size(); i++) {
+            Fixture fixture = fixtures.get(i);
+            SpatialHash.Proxy<Fixture> fixtureProxy = fixture.getBroadphaseProxy();
+            if (!fixtureHash.owns(fixtureProxy)) {
+                fixtureProxy = fixtureHash.createProxy(fixture);
+                fixture.setBroadphaseProxy(fixtureProxy);
             }
+            fixtureProxy.setSeenMark(updateMark);
         }
-        return map;
     }
 
-    private List<Fixture> getFixturesOverlapping(Fixture fixture) {
-        Pair<Pair<Integer>> indexes = graph.getNodeIndexes(fixture.getFixtureShape());
-        Pair<Integer> min = indexes.getFirst();
-        Pair<Integer> max = indexes.getSecond();
-        List<Fixture> fixtures = new ArrayList<>();
-        for (int i = min.getFirst(); i <= max.getFirst(); i++) {
-            for (int j = min.getSecond(); j <= max.getSecond(); j++) {
-                Node node = graph.getNode(i, j);
-                node.getObjects().stream().filter(o -> o instanceof Fixture).forEach(o -> {
-                    Fixture f = (Fixture) o;
-                    if (overlap(fixture.getFixtureShape(), f.getFixtureShape())) {
-                        fixtures.add(f);
-                    }
-                });
+    private void dropUnseenProxies() {
+        bodyHash.destroyUnseen(updateMark, droppedBodies);
+        for (int i = 0; i < droppedBodies.size(); i++) {
+            droppedBodies.get(i).setBroadphaseProxy(null);
+        }
+        droppedBodies.clear();
+        fixtureHash.destroyUnseen(updateMark, droppedFixtures);
+        for (int i = 0; i < droppedFixtures.size(); i++) {
+            droppedFixtures.get(i).setBroadphaseProxy(null);
+        }
+        droppedFixtures.clear();
+    }
+
+    /**
+     * Moves the body and its fixtures in the broadphase. Returns if the bounds pairOf any active fixture changed since
+     * the fixture was last moved.
+     */
+    private boolean moveInBroadphase(BodyComponent bodyComponent) {
+        bodyHash.update(bodyComponent.getBroadphaseProxy(), bodyComponent.getCollisionBox());
+        return setFixtures(bodyComponent);
+    }
+
+    private boolean setFixtures(BodyComponent bodyComponent) {
+        boolean boundsChanged = false;
+        List<Fixture> fixtures = bodyComponent.getFixtures();
+        for (int i = 0; i < fixtures.size(); i++) {
+            Fixture fixture = fixtures.get(i);
+            bodyComponent.getCollisionBox().getCenter(fixtureCenter).add(fixture.getOffset());
+            Shape2D shape = fixture.getFixtureShape();
+            switch (fixture.getShapeKind()) {
+                case RECTANGLE -> ((Rectangle) shape).setCenter(fixtureCenter);
+                case CIRCLE -> ((Circle) shape).setPosition(fixtureCenter);
+                case POLYLINE -> ((Polyline) shape).setOrigin(fixtureCenter.x, fixtureCenter.y);
+                case TRIANGLE -> ((Triangle) shape).setOrigin(fixtureCenter.x, fixtureCenter.y);
+            }
+            // move fixture in broadphase if active and it can contact anything, otherwise take it out pairOf the cells
+            if (fixture.isActive() && maskOf(fixture) != 0L) {
+                priorFixtureBounds.set(fixture.getBounds());
+                fixtureHash.update(fixture.getBroadphaseProxy(), fixture.updateBounds());
+                boundsChanged |= !priorFixtureBounds.equals(fixture.getBounds());
+            } else {
+                fixtureHash.removeFromCells(fixture.getBroadphaseProxy());
             }
         }
-        return fixtures;
+        return boundsChanged;
+    }
+
+
+    /**
+     * Returns the mask bits pairOf the fixture with the fixture types its type is not handled with masked out.
+     *
+     * @param fixture the fixture
+     * @return the mask bits
+     */
+    private long maskOf(Fixture fixture) {
+        return fixture.getMaskBits() & handledMasks[fixture.getFixtureType().ordinal()];
+    }
+
+    /**
+     * Returns if the category and mask bits pairOf the fixtures let them be in contact. Handled masks are symmetric,
+     * so masking the first fixture by its handled mask covers both.
+     *
+     * @param f1 the first fixture
+     * @param f2 the second fixture
+     * @return if the fixtures can be in contact
+     */
+    private boolean canContact(Fixture f1, Fixture f2) {
+        return (maskOf(f1) & f2.getCategoryBits()) != 0L && (f2.getMaskBits() & f1.getCategoryBits()) != 0L;
     }
 
     /**
@@ -221,6 +822,7 @@ public class WorldSystem extends System {
      * @param overlap the overlap between both bodies
      */
     private void handleCollision(BodyComponent bc1, BodyComponent bc2, Rectangle overlap) {
+        collisionsCounter.increment();
         if (overlap.getWidth() > overlap.getHeight()) {
             if (bc1.getCollisionBox().getY() > bc2.getCollisionBox().getY()) {
                 if (ceil(bc1.getVelocity().y) < -1f) {
@@ -6,5 +6,6 @@ public class WorldVals {
 
     public static final Vector2 AIR_RESISTANCE = new Vector2(1.035f, 1.025f);
     public static final float FIXED_TIME_STEP = 1f / 150f;
+    public static final int MAX_STEPS_PER_FRAME = 8;
 
 }
@@ -0,0 +1,73 @@
+package com.game;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+
+import java.lang.reflect.Proxy;
+import java.nio.IntBuffer;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * No-op {@link GL20} for running without a GL context. Every call does nothing and returns a default value, except
+ * that object creation returns increasing handles and shader compile and program link status queries report success,
+ * so that sprite batches, shape renderers, shaders, and textures can be created and used as render sinks.
+ */
+public class HeadlessGL20 {
+
+    private HeadlessGL20() {}
+
+    /**
+     * Creates a no-op GL20 and sets it as {@link Gdx#gl} and {@link Gdx#gl20}.
+     */
+    public static void install() {
+        GL20 gl20 = create();
+        Gdx.gl = gl20;
+        Gdx.gl20 = gl20;
+    }
+
+    /**
+     * Creates a no-op GL20.
+     *
+     * @return the no-op GL20
+     */
+    public static GL20 create() {
+        AtomicInteger handles = new AtomicInteger(1);
+        return (GL20) Proxy.newProxyInstance(GL20.class.getClassLoader(), new Class<?>[]{GL20.class},
+                (proxy, method, args) -> {
+                    if (method.getDeclaringClass() == Object.class) {
+                        return switch (method.getName()) {
+                            case "hashCode" -> java.lang.System.identityHashCode(proxy);
+                            case "equals" -> proxy == args[0];
+                            default -> HeadlessGL20.class.getSimpleName();
+                        };
+                    }
+                    switch (method.getName()) {
+                        case "glCreateShader", "glCreateProgram", "glGenTexture", "glGenBuffer", "glGenFramebuffer",
+                                "glGenRenderbuffer" -> {
+                            return handles.getAndIncrement();
+                        }
+                        case "glGetShaderiv", "glGetProgramiv" -> {
+                            int pname = (int) args[1];
+                            IntBuffer params = (IntBuffer) args[2];
+                            boolean success = pname == GL20.GL_COMPILE_STATUS || pname == GL20.GL_LINK_STATUS;
+                            params.put(params.position(), success ? 1 : 0);
+                            return null;
+                        }
+                    }
+                    Class<?> returnType = method.getReturnType();
+                    if (returnType == String.class) {
+                        return "";
+                    } else if (returnType == boolean.class) {
+                        return false;
+                    } else if (returnType == int.class) {
+                        return 0;
+                    } else if (returnType == float.class) {
+                        return 0f;
+                    } else if (returnType == long.class) {
+                        return 0L;
+                    }
+                    return null;
+                });
+    }
+
+}
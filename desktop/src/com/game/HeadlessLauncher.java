@@ -0,0 +1,134 @@
+package com.game;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import com.badlogic.gdx.utils.TimeUtils;
+import com.game.profiling.Counter;
+import com.game.shapes.LineSystem;
+import com.game.shapes.ShapeSystem;
+import com.game.sprites.SpriteSystem;
+import com.game.world.WorldSystem;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.game.GameScreen.TEST_STAGE;
+
+/**
+ * Runs the game without a window or GL context at full CPU speed, for measuring simulation throughput on machines
+ * without a GPU and for soak runs. Rendering goes to a no-op GL, see {@link HeadlessGL20}, and audio goes to the mock
+ * audio pairOf the headless backend. Each frame is stepped with a fixed delta regardless pairOf wall time.
+ * <p>
+ * Arguments: the game screen to run (default TEST_STAGE), the number pairOf frames to run (default 10000), and
+ * optionally "--sim-only" to turn off the sprite, line, and shape systems. Frame throughput is printed on exit.
+ * <p>
+ * With "--replay &lt;path&gt;", the input recording at the path is played back instead, see
+ * {@link MegamanMaverick#startReplay(String)}. The screen and the delta pairOf each frame come from the recording, and
+ * the run ends when the recording runs out or the number pairOf frames is reached.
+ * <p>
+ * With "--metrics &lt;path&gt;", the per-frame {@link com.game.profiling.MetricsRegistry} counters are written to the
+ * CSV file at the path, relative to local storage. The mean pairOf each counter per frame and per world step is
+ * printed on exit either way.
+ */
+public class HeadlessLauncher {
+
+    private static final float FIXED_DELTA = 1f / 60f;
+
+    /**
+     * The entry point pairOf the headless application.
+     *
+     * @param args the input arguments
+     */
+    public static void main(String[] args) {
+        List<String> positional = new ArrayList<>();
+        boolean simOnly = false;
+        String replayPath = null;
+        String metricsPath = null;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--sim-only" -> simOnly = true;
+                case "--replay" -> replayPath = args[++i];
+                case "--metrics" -> metricsPath = args[++i];
+                default -> positional.add(args[i]);
+            }
+        }
+        GameScreen gameScreen = positional.size() > 0 ? GameScreen.valueOf(positional.get(0)) : TEST_STAGE;
+        int frames = positional.size() > 1 ? Integer.parseInt(positional.get(1)) : 10000;
+        HeadlessApplicationConfiguration config = new HeadlessApplicationConfiguration();
+        // a render interval that rounds to zero nanos disables throttling, a negative one disables the loop entirely
+        config.updatesPerSecond = Integer.MAX_VALUE;
+        new HeadlessApplication(new HeadlessMegamanMaverick(gameScreen, frames, simOnly, replayPath, metricsPath),
+                config);
+    }
+
+    private static class HeadlessMegamanMaverick extends MegamanMaverick {
+
+        private final boolean simOnly;
+        private final String replayPath;
+        private final String metricsPath;
+
+        private GameScreen gameScreen;
+        private int frames;
+        private int frame;
+        private long startTime;
+
+        private HeadlessMegamanMaverick(GameScreen gameScreen, int frames, boolean simOnly, String replayPath,
+                                        String metricsPath) {
+            this.gameScreen = gameScreen;
+            this.frames = frames;
+            this.simOnly = simOnly;
+            this.replayPath = replayPath;
+            this.metricsPath = metricsPath;
+        }
+
+        @Override
+        public void create() {
+            HeadlessGL20.install();
+            super.create();
+            setFixedDelta(FIXED_DELTA);
+            if (replayPath != null) {
+                startReplay(replayPath);
+                gameScreen = getInputReplayer().getGameScreen();
+                frames = Math.min(frames, getInputReplayer().getFrameCount());
+            } else {
+                setScreen(gameScreen);
+            }
+            if (simOnly) {
+                getSystem(SpriteSystem.class).setOn(false);
+                getSystem(LineSystem.class).setOn(false);
+                getSystem(ShapeSystem.class).setOn(false);
+            }
+            // count from the first timed frame, not from loading
+            getMetricsRegistry().clear();
+            if (metricsPath != null) {
+                getMetricsRegistry().startCsv(metricsPath);
+            }
+            startTime = TimeUtils.nanoTime();
+        }
+
+        @Override
+        public void render() {
+            super.render();
+            frame++;
+            if (frame != frames) {
+                return;
+            }
+            float seconds = (TimeUtils.nanoTime() - startTime) / 1_000_000_000f;
+            java.lang.System.out.printf("Headless %s: %d frames in %.3f s, %.1f frames/s, %.3f ms/frame%n",
+                    gameScreen, frame, seconds, frame / seconds, seconds * 1000f / frame);
+            WorldSystem worldSystem = getSystem(WorldSystem.class);
+            java.lang.System.out.printf("World: %.2f steps/frame, %.3f s dropped, %d sleeping bodies, %d fell asleep, " +
+                            "%d woken%n", (float) worldSystem.getTotalStepCount() / frame, worldSystem.getDroppedTime(),
+                    worldSystem.getSleepingBodyCount(), worldSystem.getFallAsleepCount(), worldSystem.getWakeCount());
+            long steps = Math.max(worldSystem.getTotalStepCount(), 1L);
+            for (Counter counter : getMetricsRegistry().getCounters()) {
+                java.lang.System.out.printf("%s: %.1f/frame, %.1f/step, max %d%n", counter.getName(),
+                        (float) counter.getTotal() / frame, (float) counter.getTotal() / steps, counter.getMax());
+            }
+            Gdx.app.exit();
+        }
+
+    }
+
+}